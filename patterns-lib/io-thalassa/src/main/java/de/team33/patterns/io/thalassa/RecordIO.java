@@ -4,6 +4,8 @@ import de.team33.patterns.records.triton.Triton;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
@@ -25,18 +27,47 @@ public class RecordIO<T extends Record> extends FileIO<T> {
         super(path, charset, reader -> readRecord(recordClass, reader), RecordIO::writeString);
     }
 
+    private RecordIO(final Class<T> recordClass, final Path path) {
+        super(path, in -> readRecord(recordClass, in), RecordIO::writeBytes);
+    }
+
     private static <T extends Record> T readRecord(final Class<T> recordClass,
                                                    final BufferedReader reader) throws IOException {
-        return Triton.toRecord(recordClass, TextIO.readString(reader));
+        try {
+            return Triton.toRecord(recordClass, reader);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T extends Record> T readRecord(final Class<T> recordClass,
+                                                   final InputStream in) throws IOException {
+        try {
+            return Triton.toRecord(recordClass, in);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     private static <T extends Record> void writeString(final Writer writer,
                                                        final T value) throws IOException {
-        TextIO.writeString(writer, Triton.toJson(value));
+        Triton.writeJson(value, writer);
+    }
+
+    private static <T extends Record> void writeBytes(final OutputStream out,
+                                                      final T value) throws IOException {
+        Triton.writeJson(value, out);
+    }
+
+    private static boolean isUtf8(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset);
     }
 
     /**
      * Creates a new {@code RecordIO} for the given file using the specified character set.
+     * <p>
+     * For UTF-8, the file content is decoded by {@link Triton} itself while parsing, without an intermediate
+     * {@link java.io.Reader}.
      *
      * @param recordClass The record type.
      * @param path        The target file.
@@ -46,7 +77,7 @@ public class RecordIO<T extends Record> extends FileIO<T> {
     public static <T extends Record> RecordIO<T> by(final Class<T> recordClass,
                                                     final Path path,
                                                     final Charset charset) {
-        return new RecordIO<>(recordClass, path, charset);
+        return isUtf8(charset) ? new RecordIO<>(recordClass, path) : new RecordIO<>(recordClass, path, charset);
     }
 
     /**
@@ -74,8 +105,9 @@ public class RecordIO<T extends Record> extends FileIO<T> {
                                                  final Class<?> refClass,
                                                  final String resourceName,
                                                  final Charset charset) {
-        return Reading.by(refClass, resourceName)
-                      .input(charset, reader -> readRecord(recordClass, reader));
+        final Reading reading = Reading.by(refClass, resourceName);
+        return isUtf8(charset) ? reading.input(in -> readRecord(recordClass, in))
+                               : reading.input(charset, reader -> readRecord(recordClass, reader));
     }
 
     /**
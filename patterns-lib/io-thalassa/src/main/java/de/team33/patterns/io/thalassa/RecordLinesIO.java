@@ -0,0 +1,120 @@
+package de.team33.patterns.io.thalassa;
+
+import de.team33.patterns.records.triton.Triton;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * A {@link FileIO} implementation for reading and writing sequences of Java {@link Record records} in
+ * <em>JSON Lines</em> format (also known as <em>NDJSON</em>): one JSON document per line.
+ * <p>
+ * In addition to reading and writing the complete content as a {@link List}, instances of this class can
+ * {@linkplain #stream() stream} the records of a file lazily and {@linkplain #append(Iterable) append} further
+ * records to a file without reading it.
+ * <p>
+ * Unless specified otherwise, UTF-8 is used as character set.
+ *
+ * @param <T> the record type to be read and written.
+ */
+public class RecordLinesIO<T extends Record> extends FileIO<List<T>> {
+
+    private final Class<T> recordClass;
+    private final Reading reading;
+    private final Charset charset;
+    private final Output<Iterable<? extends T>> appending;
+
+    private RecordLinesIO(final Class<T> recordClass, final Path path, final Charset charset) {
+        super(path, charset, reader -> readRecords(recordClass, reader), RecordLinesIO::writeLines);
+        this.recordClass = recordClass;
+        this.reading = Reading.by(path);
+        this.charset = charset;
+        this.appending = Writing.by(path, CREATE, APPEND).output(charset, RecordLinesIO::writeLines);
+    }
+
+    private static <T extends Record> List<T> readRecords(final Class<T> recordClass,
+                                                          final BufferedReader reader) throws IOException {
+        try (final Stream<T> stream = Triton.toRecords(recordClass, reader)) {
+            return stream.toList();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeLines(final Writer writer, final Iterable<? extends Record> values) throws IOException {
+        Triton.writeJsonLines(values, writer);
+    }
+
+    private static void close(final InputStream in) {
+        try {
+            in.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a new {@code RecordLinesIO} for the given file using the specified character set.
+     *
+     * @param recordClass The record type.
+     * @param path        The target file.
+     * @param charset     The character set used for reading and writing.
+     * @return A {@code RecordLinesIO} instance.
+     */
+    public static <T extends Record> RecordLinesIO<T> by(final Class<T> recordClass,
+                                                         final Path path,
+                                                         final Charset charset) {
+        return new RecordLinesIO<>(recordClass, path, charset);
+    }
+
+    /**
+     * Creates a new {@code RecordLinesIO} for the given file using UTF-8.
+     *
+     * @param recordClass The record type.
+     * @param path        The target file.
+     * @return A {@code RecordLinesIO} instance.
+     */
+    public static <T extends Record> RecordLinesIO<T> by(final Class<T> recordClass,
+                                                         final Path path) {
+        return by(recordClass, path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens the underlying file and returns a lazy, sequential {@link Stream} of its records.
+     * <p>
+     * Each record is read and parsed only when the next element of the stream is requested, so the file
+     * content is never held in memory as a whole. The returned stream holds the opened file and must be
+     * closed after use, e.g. by a try-with-resources statement.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public final Stream<T> stream() throws IOException {
+        final InputStream in = reading.newInputStream();
+        final Stream<T> result = StandardCharsets.UTF_8.equals(charset)
+                                 ? Triton.toRecords(recordClass, in)
+                                 : Triton.toRecords(recordClass, new InputStreamReader(in, charset));
+        return result.onClose(() -> close(in));
+    }
+
+    /**
+     * Appends the given <em>records</em> to the underlying file, one per line.
+     * The file is created if it does not exist yet.
+     *
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public final void append(final Iterable<? extends T> records) throws IOException {
+        appending.write(records);
+    }
+}
@@ -6,10 +6,12 @@ import de.team33.testing.Supply;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RecordIOTest extends Supply {
 
@@ -60,6 +62,15 @@ class RecordIOTest extends Supply {
         assertEquals(original, io.read());
     }
 
+    @Test
+    final void write_latin1() throws IOException {
+        final RecordIO<Sample> latin1 = RecordIO.by(Sample.class, path, StandardCharsets.ISO_8859_1);
+        final Sample original = new Sample("Gr\u00fc\u00dfe", anyInt(), anyLong(), anyOf(SampleEnum.class));
+        latin1.write(original);
+        assertEquals(original, latin1.read());
+        assertTrue(Files.readString(path, StandardCharsets.ISO_8859_1).contains("Gr\u00fc\u00dfe"));
+    }
+
     final Sample anySample() {
         return new Sample(anyString(), anyInt(), anyLong(), anyOf(SampleEnum.class));
     }
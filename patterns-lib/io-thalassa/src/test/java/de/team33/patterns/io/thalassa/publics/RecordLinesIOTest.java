@@ -0,0 +1,80 @@
+package de.team33.patterns.io.thalassa.publics;
+
+import de.team33.patterns.io.thalassa.RecordLinesIO;
+import de.team33.testing.Supply;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordLinesIOTest extends Supply {
+
+    private static final Path PATH = Path.of("target", "testing", RecordLinesIOTest.class.getSimpleName());
+    private static final String CHARACTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    private final RecordLinesIO<Sample> io;
+    private final Path path;
+
+    RecordLinesIOTest() {
+        this.path = PATH.resolve("%s.jsonl".formatted(anyString(8, CHARACTERS)));
+        this.io = RecordLinesIO.by(Sample.class, path);
+    }
+
+    @Test
+    final void write_read() throws IOException {
+        final List<Sample> original = anySamples(10);
+        io.write(original);
+        assertEquals(original, io.read());
+        assertEquals(original.size(), Files.readAllLines(path).size());
+    }
+
+    @Test
+    final void append_stream() throws IOException {
+        final List<Sample> first = anySamples(10);
+        final List<Sample> second = anySamples(5);
+        final List<Sample> expected = new ArrayList<>(first);
+        expected.addAll(second);
+
+        io.append(first);
+        io.append(second);
+
+        try (final Stream<Sample> result = io.stream()) {
+            assertEquals(expected, result.toList());
+        }
+    }
+
+    @Test
+    final void read() throws IOException {
+        final Sample original = anySample();
+        final String json = "{\"stringValue\": \"%s\", \"intValue\": %d, \"longValue\": %d, \"enumValue\": \"%s\"}\n";
+        final String line = json.formatted(original.stringValue, original.intValue,
+                                           original.longValue, original.enumValue);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, line + line);
+
+        assertEquals(List.of(original, original), io.read());
+    }
+
+    final List<Sample> anySamples(final int count) {
+        return Stream.generate(this::anySample).limit(count).toList();
+    }
+
+    final Sample anySample() {
+        return new Sample(anyString(), anyInt(), anyLong(), anyOf(SampleEnum.class));
+    }
+
+    enum SampleEnum {
+        V1,
+        V2,
+        V3
+    }
+
+    record Sample(String stringValue, int intValue, Long longValue, SampleEnum enumValue) {
+    }
+}
@@ -0,0 +1,358 @@
+package de.team33.patterns.records.triton;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static de.team33.patterns.records.triton.BinaryFormat.*;
+
+/**
+ * Binds data in the {@linkplain BinaryFormat compact binary format} to a target type, guided by the target's
+ * structure.
+ * <p>
+ * Records, arrays, collections, maps and optionals are bound on the fly, without building an intermediate
+ * {@link JsonValue} tree. Any other values are decoded as {@link JsonValue} and {@linkplain Resolver resolved}
+ * individually.
+ */
+final class BinaryDecoder {
+
+    private static final int MAX_VARINT_SHIFT = 63;
+
+    private final byte[] bytes;
+    private int position;
+
+    private BinaryDecoder(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Binds the given <em>bytes</em> to the record type of the given <em>reflector</em>.
+     *
+     * @throws IllegalArgumentException if the <em>bytes</em> are malformed or do not match the record type.
+     */
+    static Object decode(final Triton.Reflector<?> reflector, final byte[] bytes) {
+        final BinaryDecoder decoder = new BinaryDecoder(bytes);
+        final Object result = decoder.bind(reflector);
+        if (decoder.position < bytes.length) {
+            throw new IllegalArgumentException(
+                    "expected end of binary data at index %d".formatted(decoder.position));
+        }
+        return result;
+    }
+
+    private IllegalArgumentException endOfData() {
+        return new IllegalArgumentException("unexpected end of binary data at index %d".formatted(position));
+    }
+
+    private int peekTag() {
+        if (position < bytes.length) {
+            return bytes[position];
+        }
+        throw endOfData();
+    }
+
+    private int nextTag() {
+        final int result = peekTag();
+        position += 1;
+        return result;
+    }
+
+    private long nextVarint() {
+        long result = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7) {
+            final int next = nextTag();
+            result |= (long) (next & 0x7F) << shift;
+            if (0 == (next & 0x80)) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint at index %d".formatted(position));
+    }
+
+    private int nextLength() {
+        final long result = nextVarint();
+        if ((0 > result) || (bytes.length - position < result)) {
+            throw new IllegalArgumentException("illegal length %d at index %d".formatted(result, position));
+        }
+        return (int) result;
+    }
+
+    private long nextZigzag() {
+        final long value = nextVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private double nextDouble() {
+        if (bytes.length - position < 8) {
+            throw endOfData();
+        }
+        long bits = 0;
+        for (int count = 0; count < 8; ++count) {
+            bits = (bits << 8) | (bytes[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private BigDecimal nextDecimal() {
+        final int scale = Math.toIntExact(nextZigzag());
+        final int length = nextLength();
+        if (0 == length) {
+            throw new IllegalArgumentException("empty decimal at index %d".formatted(position));
+        }
+        final BigInteger unscaled = new BigInteger(Arrays.copyOfRange(bytes, position, position + length));
+        position += length;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    private String nextString() {
+        final int length = nextLength();
+        final String result = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return result;
+    }
+
+    private Object bind(final Triton.Reflector<?> reflector) {
+        if (RECORD == peekTag()) {
+            return bindRecord(reflector);
+        } else {
+            return Resolver.of(reflector.recordType()).apply(nextValue());
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object bind(final Resolver resolver) {
+        final Class<?> targetType = resolver.targetType();
+        final int tag = peekTag();
+        if ((RECORD == tag) && targetType.isRecord()) {
+            return bindRecord(Triton.reflector((Class) targetType));
+        } else if ((ARRAY == tag) && targetType.isArray()) {
+            return bindArray(targetType.componentType(), resolver.elements());
+        } else if ((ARRAY == tag) && resolver.isSequence()) {
+            return bindSequence(resolver);
+        } else if ((OBJECT == tag) && resolver.isMap()) {
+            return bindMap(resolver);
+        } else if (resolver.isOptional()) {
+            return Optional.ofNullable(bind(resolver.elements()));
+        } else if ((STRING == tag) && (String.class == targetType)) {
+            position += 1;
+            return nextString();
+        } else {
+            return resolver.apply(nextValue());
+        }
+    }
+
+    private Object bindRecord(final Triton.Reflector<?> reflector) {
+        position += 1;
+        final int size = reflector.size();
+        final Object[] args = reflector.newArgs();
+        for (long key = nextVarint(); END != key; key = nextVarint()) {
+            final long index = key - 1;
+            if ((0 > index) || (size <= index)) {
+                // unknown components are skipped ...
+                skipValue();
+            } else {
+                args[(int) index] = bindComponent(reflector, (int) index);
+            }
+        }
+        return reflector.newInstance(args);
+    }
+
+    private Object bindComponent(final Triton.Reflector<?> reflector, final int index) {
+        final Triton.Reflector<?> nested = reflector.nested(index);
+        return (null == nested) ? bind(reflector.decoder(index)) : bind(nested);
+    }
+
+    private Object bindArray(final Class<?> componentType, final Resolver elements) {
+        position += 1;
+        final int length = nextLength();
+        if (boolean.class == componentType) {
+            final boolean[] result = new boolean[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = (Boolean) bind(elements);
+            }
+            return result;
+        } else if (char.class == componentType) {
+            final char[] result = new char[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = (Character) bind(elements);
+            }
+            return result;
+        } else if (componentType.isPrimitive()) {
+            return bindNumbers(componentType, elements, length);
+        } else {
+            final Object[] result = (Object[]) Array.newInstance(componentType, length);
+            for (int index = 0; index < length; ++index) {
+                result[index] = bind(elements);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Binds an array of primitive numbers in a dedicated loop per component type, without boxing the elements
+     * and without building a {@link JsonNumber} each, as long as they are encoded in the expected way.
+     */
+    private Object bindNumbers(final Class<?> componentType, final Resolver elements, final int length) {
+        if (int.class == componentType) {
+            final int[] result = new int[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = Math.toIntExact(nextLong(elements));
+            }
+            return result;
+        } else if (long.class == componentType) {
+            final long[] result = new long[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = nextLong(elements);
+            }
+            return result;
+        } else if (double.class == componentType) {
+            final double[] result = new double[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = nextDouble(elements);
+            }
+            return result;
+        } else if (float.class == componentType) {
+            final float[] result = new float[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = (float) nextDouble(elements);
+            }
+            return result;
+        } else if (short.class == componentType) {
+            final short[] result = new short[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = JsonNumber.toShortExact(nextLong(elements));
+            }
+            return result;
+        } else {
+            final byte[] result = new byte[length];
+            for (int index = 0; index < length; ++index) {
+                result[index] = JsonNumber.toByteExact(nextLong(elements));
+            }
+            return result;
+        }
+    }
+
+    private long nextLong(final Resolver elements) {
+        if (LONG == peekTag()) {
+            position += 1;
+            return nextZigzag();
+        }
+        // resolves any other encoding of a number as usual or fails ...
+        return ((Number) elements.apply(nextValue())).longValue();
+    }
+
+    private double nextDouble(final Resolver elements) {
+        if (DOUBLE == peekTag()) {
+            position += 1;
+            return nextDouble();
+        }
+        // resolves any other encoding of a number as usual or fails ...
+        return ((Number) elements.apply(nextValue())).doubleValue();
+    }
+
+    private Object bindSequence(final Resolver resolver) {
+        position += 1;
+        final Resolver elements = resolver.elements();
+        final int length = nextLength();
+        // the length is known in advance, so the values can be adopted by the result ...
+        final Object[] values = new Object[length];
+        for (int index = 0; index < length; ++index) {
+            values[index] = bind(elements);
+        }
+        return resolver.adopt(values);
+    }
+
+    private Object bindMap(final Resolver resolver) {
+        position += 1;
+        final Resolver elements = resolver.elements();
+        final int length = nextLength();
+        final Object[] values = new Object[2 * length];
+        for (int index = 0; index < values.length; index += 2) {
+            values[index] = nextString();
+            values[index + 1] = bind(elements);
+        }
+        return resolver.map(values, 0, values.length);
+    }
+
+    private JsonValue nextValue() {
+        final int tag = nextTag();
+        return switch (tag) {
+            case NULL -> JsonValue.NULL;
+            case FALSE -> new JsonBoolean(false);
+            case TRUE -> new JsonBoolean(true);
+            case LONG -> JsonNumber.of(nextZigzag());
+            case DOUBLE -> JsonNumber.of(nextDouble());
+            case DECIMAL -> JsonNumber.of(nextDecimal());
+            case STRING -> new JsonString(nextString());
+            case ARRAY -> nextArray();
+            case OBJECT -> nextObject();
+            case RECORD -> throw new IllegalArgumentException(
+                    "cannot bind a record without its type at index %d".formatted(position - 1));
+            default -> throw unexpectedTag(tag);
+        };
+    }
+
+    private IllegalArgumentException unexpectedTag(final int tag) {
+        return new IllegalArgumentException("unexpected tag %d at index %d".formatted(tag, position - 1));
+    }
+
+    private JsonArray nextArray() {
+        final JsonArray.Builder builder = JsonArray.builder();
+        final int length = nextLength();
+        for (int index = 0; index < length; ++index) {
+            builder.add(nextValue());
+        }
+        return builder.build();
+    }
+
+    private JsonObject nextObject() {
+        final JsonObject.Builder builder = JsonObject.builder();
+        final int length = nextLength();
+        for (int index = 0; index < length; ++index) {
+            final String name = nextString();
+            builder.put(name, nextValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Skips the next value without materializing it. The value is still checked to be well-formed.
+     */
+    private void skipValue() {
+        final int tag = nextTag();
+        switch (tag) {
+            case NULL, FALSE, TRUE -> {
+            }
+            case LONG -> nextVarint();
+            case DOUBLE -> nextDouble();
+            case DECIMAL -> nextDecimal();
+            case STRING -> skipString();
+            case ARRAY -> skipValues(nextLength(), false);
+            case OBJECT -> skipValues(nextLength(), true);
+            case RECORD -> {
+                for (long key = nextVarint(); END != key; key = nextVarint()) {
+                    skipValue();
+                }
+            }
+            default -> throw unexpectedTag(tag);
+        }
+    }
+
+    private void skipString() {
+        // the length must be read before the position is taken ...
+        final int length = nextLength();
+        position += length;
+    }
+
+    private void skipValues(final int count, final boolean named) {
+        for (int index = 0; index < count; ++index) {
+            if (named) {
+                skipString();
+            }
+            skipValue();
+        }
+    }
+}
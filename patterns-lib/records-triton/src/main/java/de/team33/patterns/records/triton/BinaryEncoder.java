@@ -0,0 +1,306 @@
+package de.team33.patterns.records.triton;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.team33.patterns.records.triton.BinaryFormat.*;
+
+/**
+ * Encodes records and values into the {@linkplain BinaryFormat compact binary format}.
+ * <p>
+ * Records are encoded directly, component by component, and integral primitive components without boxing.
+ * Arrays, collections, maps and optionals are encoded directly as well.
+ * Any other values are encoded as their {@linkplain Generalizer#map(Object) generalized} {@link JsonValue}.
+ */
+final class BinaryEncoder {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final char REPLACEMENT = '?';
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private BinaryEncoder() {
+    }
+
+    /**
+     * Returns the binary representation of the given <em>source</em> record, whose type is described by the
+     * given <em>reflector</em>.
+     */
+    static byte[] encode(final Record source, final Triton.Reflector<?> reflector) {
+        final BinaryEncoder encoder = new BinaryEncoder();
+        if (null == source) {
+            encoder.addTag(NULL);
+        } else {
+            encoder.addRecord(source, reflector);
+        }
+        return Arrays.copyOf(encoder.buffer, encoder.size);
+    }
+
+    private static boolean isNull(final Object value) {
+        return (null == value) || (JsonValue.NULL == value) ||
+               ((value instanceof final Optional<?> optional) && optional.isEmpty());
+    }
+
+    private void ensure(final int count) {
+        if (buffer.length - size < count) {
+            buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + count));
+        }
+    }
+
+    private void addTag(final int tag) {
+        ensure(1);
+        buffer[size++] = (byte) tag;
+    }
+
+    private void addVarint(final long value) {
+        ensure(10);
+        long rest = value;
+        while (0 != (rest & ~0x7FL)) {
+            buffer[size++] = (byte) ((rest & 0x7F) | 0x80);
+            rest >>>= 7;
+        }
+        buffer[size++] = (byte) rest;
+    }
+
+    private void addZigzag(final long value) {
+        addVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void addLong(final long value) {
+        addTag(LONG);
+        addZigzag(value);
+    }
+
+    private void addDouble(final double value) {
+        addTag(DOUBLE);
+        ensure(8);
+        final long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (bits >>> shift);
+        }
+    }
+
+    private void addDecimal(final BigDecimal value) {
+        addTag(DECIMAL);
+        addZigzag(value.scale());
+        addBytes(value.unscaledValue().toByteArray());
+    }
+
+    private void addBytes(final byte[] bytes) {
+        addVarint(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void addString(final String value) {
+        final int length = value.length();
+        addVarint(utf8Length(value));
+        ensure(3 * length);
+        for (int index = 0; index < length; ++index) {
+            final char c = value.charAt(index);
+            if (0x80 > c) {
+                buffer[size++] = (byte) c;
+            } else if (0x800 > c) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (isPair(value, index)) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++index));
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // an unpaired surrogate is replaced, as String.getBytes(UTF_8) would do ...
+                buffer[size++] = (byte) REPLACEMENT;
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static boolean isPair(final String value, final int index) {
+        return Character.isHighSurrogate(value.charAt(index)) &&
+               (index + 1 < value.length()) &&
+               Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    private static int utf8Length(final String value) {
+        final int length = value.length();
+        int result = length;
+        for (int index = 0; index < length; ++index) {
+            final char c = value.charAt(index);
+            if (0x80 <= c) {
+                if (0x800 > c) {
+                    result += 1;
+                } else if (isPair(value, index)) {
+                    result += 2;
+                    ++index;
+                } else if (!Character.isSurrogate(c)) {
+                    result += 2;
+                }
+            }
+        }
+        return result;
+    }
+
+    private void add(final Object source) {
+        if (isNull(source)) {
+            addTag(NULL);
+        } else if (source instanceof final JsonValue value) {
+            addValue(value);
+        } else if (source instanceof final Record record) {
+            addRecord(record, Triton.reflector(record.getClass()));
+        } else if (source.getClass().isArray() && source.getClass().componentType().isPrimitive()) {
+            addPrimitives(source);
+        } else if (source.getClass().isArray()) {
+            final int length = Array.getLength(source);
+            addTag(ARRAY);
+            addVarint(length);
+            for (int index = 0; index < length; ++index) {
+                add(Array.get(source, index));
+            }
+        } else if (source instanceof final Collection<?> collection) {
+            addTag(ARRAY);
+            addVarint(collection.size());
+            for (final Object element : collection) {
+                add(element);
+            }
+        } else if (source instanceof final Map<?, ?> map) {
+            addTag(OBJECT);
+            addVarint(map.size());
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                addString(Util.memberName(entry.getKey()));
+                add(entry.getValue());
+            }
+        } else if (source instanceof final Optional<?> optional) {
+            add(optional.get());
+        } else {
+            addValue(Generalizer.map(source));
+        }
+    }
+
+    /**
+     * Encodes an array of primitives in a dedicated loop per component type, without boxing the elements and
+     * without {@linkplain Generalizer generalizing} them one by one.
+     */
+    private void addPrimitives(final Object array) {
+        addTag(ARRAY);
+        if (array instanceof final int[] values) {
+            addVarint(values.length);
+            for (final int value : values) {
+                addLong(value);
+            }
+        } else if (array instanceof final long[] values) {
+            addVarint(values.length);
+            for (final long value : values) {
+                addLong(value);
+            }
+        } else if (array instanceof final double[] values) {
+            addVarint(values.length);
+            for (final double value : values) {
+                addDouble(JsonNumber.requireFinite(value));
+            }
+        } else if (array instanceof final float[] values) {
+            addVarint(values.length);
+            for (final float value : values) {
+                addDouble(JsonNumber.requireFinite(JsonNumber.widened(value)));
+            }
+        } else if (array instanceof final short[] values) {
+            addVarint(values.length);
+            for (final short value : values) {
+                addLong(value);
+            }
+        } else if (array instanceof final byte[] values) {
+            addVarint(values.length);
+            for (final byte value : values) {
+                addLong(value);
+            }
+        } else if (array instanceof final boolean[] values) {
+            addVarint(values.length);
+            for (final boolean value : values) {
+                addTag(value ? TRUE : FALSE);
+            }
+        } else {
+            final char[] values = (char[]) array;
+            addVarint(values.length);
+            for (final char value : values) {
+                addTag(STRING);
+                addString(String.valueOf(value));
+            }
+        }
+    }
+
+    private void addValue(final JsonValue value) {
+        if (value instanceof final JsonBoolean bool) {
+            addTag(bool.value() ? TRUE : FALSE);
+        } else if (value instanceof final JsonNumber number) {
+            addNumber(number);
+        } else if (value instanceof final JsonString string) {
+            addTag(STRING);
+            addString(string.value());
+        } else if (value instanceof final JsonArray array) {
+            final int length = array.size();
+            addTag(ARRAY);
+            addVarint(length);
+            for (int index = 0; index < length; ++index) {
+                add(array.get(index));
+            }
+        } else if (value instanceof final JsonObject object) {
+            addTag(OBJECT);
+            addVarint(object.size());
+            for (final JsonObject.Entry entry : object) {
+                addString(entry.name());
+                add(entry.value());
+            }
+        } else {
+            addTag(NULL);
+        }
+    }
+
+    private void addNumber(final JsonNumber number) {
+        if (number.isLong()) {
+            addLong(number.longValueExact());
+        } else if (number.isDouble()) {
+            addDouble(number.doubleValue());
+        } else {
+            addDecimal(number.bigDecimalValue());
+        }
+    }
+
+    private void addRecord(final Record source, final Triton.Reflector<?> reflector) {
+        addTag(RECORD);
+        final int size = reflector.size();
+        for (int index = 0; index < size; ++index) {
+            if (reflector.isIntegral(index)) {
+                addVarint(index + 1L);
+                addLong(reflector.getLong(source, index));
+            } else {
+                final Object value = component(reflector, source, index);
+                if (!isNull(value)) {
+                    addVarint(index + 1L);
+                    final Triton.Reflector<?> nested = reflector.nested(index);
+                    if (null == nested) {
+                        add(value);
+                    } else {
+                        addRecord((Record) value, nested);
+                    }
+                }
+            }
+        }
+        addVarint(END);
+    }
+
+    private static Object component(final Triton.Reflector<?> reflector, final Record source, final int index) {
+        final Object value = reflector.get(source, index);
+        final Generalizer encoder = reflector.encoder(index);
+        return ((null == value) || (null == encoder)) ? value : encoder.apply(value);
+    }
+}
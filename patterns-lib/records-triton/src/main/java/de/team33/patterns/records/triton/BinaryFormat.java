@@ -0,0 +1,40 @@
+package de.team33.patterns.records.triton;
+
+/**
+ * Defines the compact binary representation of records, used as an alternative to JSON.
+ * <p>
+ * Each value starts with a single tag byte, followed by:
+ * <ul>
+ *     <li>{@link #NULL}, {@link #FALSE}, {@link #TRUE}: nothing</li>
+ *     <li>{@link #LONG}: a zigzag-encoded varint</li>
+ *     <li>{@link #DOUBLE}: the eight bytes of its IEEE 754 bit pattern, big endian</li>
+ *     <li>{@link #DECIMAL}: a zigzag-encoded varint scale, a varint length and the two's complement bytes of the
+ *     unscaled value</li>
+ *     <li>{@link #STRING}: a varint length and the UTF-8 encoded characters</li>
+ *     <li>{@link #ARRAY}: a varint count and the elements</li>
+ *     <li>{@link #OBJECT}: a varint count and the members, each as a {@link #STRING} name (without tag)
+ *     followed by the value</li>
+ *     <li>{@link #RECORD}: the non-{@code null} components, each as a varint of its component index plus one
+ *     followed by the value, terminated by a zero varint</li>
+ * </ul>
+ * A varint holds seven bits per byte, least significant group first; the high bit of each byte but the last
+ * is set. Records are keyed by component index rather than by name, so the binary representation of a record
+ * can only be bound with the knowledge of its type. Unknown component indices are skipped when binding.
+ */
+final class BinaryFormat {
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    static final int LONG = 3;
+    static final int DOUBLE = 4;
+    static final int DECIMAL = 5;
+    static final int STRING = 6;
+    static final int ARRAY = 7;
+    static final int OBJECT = 8;
+    static final int RECORD = 9;
+    static final int END = 0;
+
+    private BinaryFormat() {
+    }
+}
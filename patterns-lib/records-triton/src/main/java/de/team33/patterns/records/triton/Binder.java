@@ -0,0 +1,374 @@
+package de.team33.patterns.records.triton;
+
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binds a JSON document directly to a target type, guided by the target's structure.
+ * <p>
+ * Records, arrays, collections, maps and optionals are bound on the fly, without building an intermediate
+ * {@link JsonValue} tree. Any other values are parsed as {@link JsonValue} and {@linkplain Resolver resolved}
+ * individually.
+ * <p>
+ * The elements of arrays, collections and maps are collected on a stack that is shared by all nesting levels
+ * and retained by the binder, so each of them is allocated only once, in its final size.
+ * Arrays of primitive numbers are collected in primitive buffers instead, so their elements are parsed without
+ * boxing and without building a {@link JsonNumber} each.
+ */
+final class Binder {
+
+    private static final int MAX_INDEX_DIGITS = 9;
+    private static final int INITIAL_STACK_SIZE = 64;
+    private static final int MAX_STACK_SIZE = 1 << 12;
+    private static final int MAX_NUMBERS_SIZE = 1 << 16;
+    private static final Set<Class<?>> NUMBER_ARRAYS = Set.of(byte[].class, short[].class, int[].class,
+                                                              long[].class, float[].class, double[].class);
+    private static final ThreadLocal<Binder> POOL = new ThreadLocal<>();
+
+    private final Source source;
+    private final Parser parser;
+    private Object[] stack = new Object[INITIAL_STACK_SIZE];
+    private int top;
+    private long[] longs = new long[INITIAL_STACK_SIZE];
+    private double[] doubles = new double[INITIAL_STACK_SIZE];
+    private int count;
+
+    private Binder(final Source source) {
+        this.source = source;
+        this.parser = new Parser(source);
+    }
+
+    /**
+     * Binds the given <em>json</em> text to the record type of the given <em>reflector</em>.
+     * <p>
+     * Uses a {@link Binder} that is confined to the current thread and reused, including its {@link Source}
+     * buffer, by subsequent calls.
+     */
+    static Object bind(final Triton.Reflector<?> reflector, final String json) {
+        final Binder binder = acquire();
+        try {
+            binder.source.reset(json);
+            return binder.bindRoot(reflector);
+        } finally {
+            release(binder);
+        }
+    }
+
+    /**
+     * Binds the given <em>json</em> characters to the record type of the given <em>reflector</em>, in place.
+     *
+     * @see #bind(Triton.Reflector, String)
+     */
+    static Object bind(final Triton.Reflector<?> reflector, final char[] json) {
+        return bind(reflector, json, json.length);
+    }
+
+    /**
+     * Binds the first <em>length</em> of the given <em>json</em> characters to the record type of the given
+     * <em>reflector</em>, in place.
+     *
+     * @see #bind(Triton.Reflector, String)
+     */
+    static Object bind(final Triton.Reflector<?> reflector, final char[] json, final int length) {
+        final Binder binder = acquire();
+        try {
+            binder.source.reset(json, length);
+            return binder.bindRoot(reflector);
+        } finally {
+            release(binder);
+        }
+    }
+
+    /**
+     * Binds the JSON document provided by the given <em>reader</em> to the record type of the given
+     * <em>reflector</em>.
+     *
+     * @see #bind(Triton.Reflector, String)
+     */
+    static Object bind(final Triton.Reflector<?> reflector, final Reader json) {
+        final Binder binder = acquire();
+        try {
+            binder.source.reset(json);
+            return binder.bindRoot(reflector);
+        } finally {
+            release(binder);
+        }
+    }
+
+    private static Binder acquire() {
+        final Binder pooled = POOL.get();
+        // A nested binding on the same thread (if any) must not share the binder ...
+        POOL.remove();
+        return (null == pooled) ? new Binder(Source.empty()) : pooled;
+    }
+
+    private static void release(final Binder binder) {
+        binder.source.clear();
+        binder.clearStack(0);
+        if (MAX_STACK_SIZE < binder.stack.length) {
+            binder.stack = new Object[INITIAL_STACK_SIZE];
+        }
+        if (MAX_NUMBERS_SIZE < binder.longs.length) {
+            binder.longs = new long[INITIAL_STACK_SIZE];
+        }
+        if (MAX_NUMBERS_SIZE < binder.doubles.length) {
+            binder.doubles = new double[INITIAL_STACK_SIZE];
+        }
+        POOL.set(binder);
+    }
+
+    /**
+     * Returns a lazy, sequential {@link Stream} of records of the type of the given <em>reflector</em>, bound one
+     * after another
+     * from the given <em>source</em>. The values may be separated by any whitespace, typically by line breaks.
+     * <p>
+     * Each value is bound as soon as it is requested, so the source text is never held in memory as a whole.
+     */
+    static Stream<Object> bindAll(final Triton.Reflector<?> reflector, final Source source) {
+        return StreamSupport.stream(new Sequence(new Binder(source), reflector), false);
+    }
+
+    /**
+     * Binds the value at the given <em>path</em> within the given <em>source</em> to the given
+     * <em>targetType</em>. Each path element either denotes a member name of a JSON object or a decimal index
+     * into a JSON array. Values not on the path are skipped without being materialized, but still checked for
+     * syntax errors. As with binding, the last of several members with the same name counts, so the document is
+     * always parsed completely.
+     *
+     * @return The bound value or {@link Optional#empty()} if the path does not exist or leads to {@code null}.
+     */
+    static Optional<Object> extract(final Class<?> targetType, final Source source, final List<String> path) {
+        final Binder binder = new Binder(source);
+        source.skipWhitespace();
+        final Object result = binder.extract(Resolver.of(targetType), path, 0);
+        source.failIfMore();
+        return Optional.ofNullable(result);
+    }
+
+    private Object extract(final Resolver resolver, final List<String> path, final int depth) {
+        if (path.size() == depth) {
+            return bind(resolver);
+        }
+        final String key = path.get(depth);
+        final char next = source.peek();
+        final Object[] result = {null};
+        if ('{' == next) {
+            parser.parseObject(name -> {
+                if (key.equals(name)) {
+                    result[0] = extract(resolver, path, depth + 1);
+                } else {
+                    parser.skipValue();
+                }
+            });
+        } else if (('[' == next) && isIndex(key)) {
+            final int index = Integer.parseInt(key);
+            final int[] count = {0};
+            parser.parseArray(() -> {
+                if (index == count[0]++) {
+                    result[0] = extract(resolver, path, depth + 1);
+                } else {
+                    parser.skipValue();
+                }
+            });
+        } else {
+            parser.skipValue();
+            return null;
+        }
+        source.skipWhitespace();
+        return result[0];
+    }
+
+    private static boolean isIndex(final String key) {
+        final int length = key.length();
+        if ((0 == length) || (MAX_INDEX_DIGITS < length)) {
+            return false;
+        }
+        for (int index = 0; index < length; ++index) {
+            final char c = key.charAt(index);
+            if ((c < '0') || ('9' < c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object bindRoot(final Triton.Reflector<?> reflector) {
+        source.skipWhitespace();
+        final Object result = bind(reflector);
+        source.failIfMore();
+        return result;
+    }
+
+    private Object bind(final Triton.Reflector<?> reflector) {
+        if ('{' == source.peek()) {
+            return bindRecord(reflector);
+        } else {
+            return Resolver.of(reflector.recordType()).apply(parser.parseValue());
+        }
+    }
+
+    private Object bind(final Resolver resolver) {
+        final char next = source.peek();
+        if (('{' == next) && resolver.targetType().isRecord()) {
+            return bindRecord(resolver.targetType());
+        } else if (('[' == next) && NUMBER_ARRAYS.contains(resolver.targetType())) {
+            return bindNumbers(resolver.targetType().componentType());
+        } else if (('[' == next) && resolver.isSequence()) {
+            return bindSequence(resolver);
+        } else if (('{' == next) && resolver.isMap()) {
+            return bindMap(resolver);
+        } else if (resolver.isOptional()) {
+            return Optional.ofNullable(bind(resolver.elements()));
+        } else {
+            return resolver.apply(parser.parseValue());
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object bindRecord(final Class<?> recordType) {
+        return bindRecord(Triton.reflector((Class) recordType));
+    }
+
+    private Object bindRecord(final Triton.Reflector<?> reflector) {
+        final Object[] args = reflector.newArgs();
+        parser.parseObject(name -> bindMember(reflector, args, name));
+        source.skipWhitespace();
+        return reflector.newInstance(args);
+    }
+
+    private void bindMember(final Triton.Reflector<?> reflector, final Object[] args, final String name) {
+        final int index = reflector.lookup(name);
+        if (0 > index) {
+            // unknown components are skipped ...
+            parser.skipValue();
+        } else {
+            final Triton.Reflector<?> nested = reflector.nested(index);
+            args[index] = (null == nested) ? bind(reflector.decoder(index)) : bind(nested);
+        }
+    }
+
+    private Object bindSequence(final Resolver resolver) {
+        final Resolver elements = resolver.elements();
+        final int bottom = top;
+        parser.parseArray(() -> push(bind(elements)));
+        source.skipWhitespace();
+        final Object result = resolver.sequence(stack, bottom, top);
+        clearStack(bottom);
+        return result;
+    }
+
+    private Object bindMap(final Resolver resolver) {
+        final Resolver values = resolver.elements();
+        final int bottom = top;
+        parser.parseObject(name -> {
+            push(name);
+            push(bind(values));
+        });
+        source.skipWhitespace();
+        final Object result = resolver.map(stack, bottom, top);
+        clearStack(bottom);
+        return result;
+    }
+
+    private Object bindNumbers(final Class<?> componentType) {
+        count = 0;
+        if (double.class == componentType) {
+            parser.parseArray(() -> pushDouble(parser.parseDouble()));
+        } else if (float.class == componentType) {
+            // a float is widened exactly and will be narrowed back ...
+            parser.parseArray(() -> pushDouble(parser.parseFloat()));
+        } else {
+            parser.parseArray(() -> pushLong(parser.parseLong()));
+        }
+        source.skipWhitespace();
+        return numbers(componentType);
+    }
+
+    private Object numbers(final Class<?> componentType) {
+        if (long.class == componentType) {
+            return Arrays.copyOf(longs, count);
+        } else if (int.class == componentType) {
+            final int[] result = new int[count];
+            for (int index = 0; index < count; ++index) {
+                result[index] = Math.toIntExact(longs[index]);
+            }
+            return result;
+        } else if (short.class == componentType) {
+            final short[] result = new short[count];
+            for (int index = 0; index < count; ++index) {
+                result[index] = JsonNumber.toShortExact(longs[index]);
+            }
+            return result;
+        } else if (byte.class == componentType) {
+            final byte[] result = new byte[count];
+            for (int index = 0; index < count; ++index) {
+                result[index] = JsonNumber.toByteExact(longs[index]);
+            }
+            return result;
+        } else if (double.class == componentType) {
+            return Arrays.copyOf(doubles, count);
+        } else {
+            final float[] result = new float[count];
+            for (int index = 0; index < count; ++index) {
+                result[index] = (float) doubles[index];
+            }
+            return result;
+        }
+    }
+
+    private void pushLong(final long value) {
+        if (longs.length == count) {
+            longs = Arrays.copyOf(longs, 2 * count);
+        }
+        longs[count++] = value;
+    }
+
+    private void pushDouble(final double value) {
+        if (doubles.length == count) {
+            doubles = Arrays.copyOf(doubles, 2 * count);
+        }
+        doubles[count++] = value;
+    }
+
+    private void push(final Object value) {
+        if (stack.length == top) {
+            stack = Arrays.copyOf(stack, 2 * top);
+        }
+        stack[top++] = value;
+    }
+
+    private void clearStack(final int bottom) {
+        // references must not be retained beyond their use ...
+        Arrays.fill(stack, bottom, top, null);
+        top = bottom;
+    }
+
+    private static final class Sequence extends Spliterators.AbstractSpliterator<Object> {
+
+        private final Binder binder;
+        private final Triton.Reflector<?> reflector;
+
+        private Sequence(final Binder binder, final Triton.Reflector<?> reflector) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.binder = binder;
+            this.reflector = reflector;
+        }
+
+        @Override
+        public final boolean tryAdvance(final Consumer<? super Object> action) {
+            if (binder.source.skipWhitespace().hasMore()) {
+                action.accept(binder.bind(reflector));
+                return true;
+            }
+            return false;
+        }
+    }
+}
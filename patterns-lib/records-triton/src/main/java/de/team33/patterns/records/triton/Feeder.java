@@ -0,0 +1,258 @@
+package de.team33.patterns.records.triton;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Binds instances of a particular {@code record} type from JSON documents that arrive in arbitrary fragments,
+ * e.g. from a non-blocking channel, and passes each of them to a {@link Consumer} as soon as it is complete.
+ * <p>
+ * The documents are expected to be separated by whitespace, typically one per line (known as <em>JSON Lines</em>
+ * or <em>NDJSON</em>), as with {@link Triton#toRecords(Class, java.io.Reader)}. A fragment may contain any part of
+ * a document, a document may span any number of fragments, and a fragment may complete any number of documents.
+ * <p>
+ * The fragments are scanned as they are fed, keeping just enough state between calls to recognize where a
+ * document ends. So a document is bound right after its last character has been fed, with no need to wait for or
+ * to look for further input. Only the characters of the current document are retained, in a buffer that is
+ * reused for subsequent documents.
+ * <p>
+ * Instances are not thread-safe and are meant to be fed by one thread at a time, e.g. one per connection.
+ *
+ * @param <T> the record type.
+ * @see Triton#feeder(Class, Consumer)
+ * @see Serializer#feeder(Consumer)
+ * @see de.team33.patterns.records.triton package
+ */
+public final class Feeder<T extends Record> {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    private static final int DECODE_CAPACITY = 1024;
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+
+    private final Triton.Reflector<T> reflector;
+    private final Consumer<? super T> consumer;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                                                                 .onMalformedInput(CodingErrorAction.REPLACE)
+                                                                 .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer decoded = CharBuffer.allocate(DECODE_CAPACITY);
+    private final ByteBuffer pendingBytes = ByteBuffer.allocate(MAX_SEQUENCE_LENGTH);
+
+    private char[] document = new char[INITIAL_CAPACITY];
+    private int length;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    Feeder(final Triton.Reflector<T> reflector, final Consumer<? super T> consumer) {
+        this.reflector = reflector;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Returns the underlying {@code record} type.
+     */
+    public final Class<T> recordType() {
+        return reflector.recordType();
+    }
+
+    /**
+     * Feeds the given <em>chunk</em> of characters. Each document completed by them is bound and passed to the
+     * consumer before this method returns.
+     * <p>
+     * If a document cannot be bound, the respective exception is thrown and <em>this</em> feeder is
+     * {@linkplain #reset() reset}, discarding the rest of the <em>chunk</em>.
+     * <p>
+     * Returns <em>this</em> {@link Feeder}.
+     *
+     * @throws IllegalArgumentException if a document is malformed or does not match the record type.
+     */
+    public final Feeder<T> feed(final CharSequence chunk) {
+        final int limit = chunk.length();
+        try {
+            for (int index = 0; index < limit; ++index) {
+                next(chunk.charAt(index));
+            }
+        } catch (final RuntimeException e) {
+            reset();
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * Feeds the remaining characters of the given <em>chunk</em>, which is consumed completely, i.e. its position
+     * is set to its limit.
+     *
+     * @see #feed(CharSequence)
+     */
+    public final Feeder<T> feed(final CharBuffer chunk) {
+        try {
+            return feed((CharSequence) chunk);
+        } finally {
+            chunk.position(chunk.limit());
+        }
+    }
+
+    /**
+     * Feeds the remaining bytes of the given <em>chunk</em>, which are expected to be UTF-8 encoded, and consumes
+     * them completely, i.e. the position of the <em>chunk</em> is set to its limit.
+     * <p>
+     * A multibyte sequence that is split between two chunks is retained until it is completed by the next chunk.
+     * Malformed input is replaced by {@code U+FFFD}.
+     *
+     * @see #feed(CharSequence)
+     */
+    public final Feeder<T> feed(final ByteBuffer chunk) {
+        try {
+            while (chunk.hasRemaining() && (0 < pendingBytes.position())) {
+                // completes a sequence split between the previous and the current chunk ...
+                pendingBytes.put(chunk.get())
+                            .flip();
+                decode(pendingBytes, false);
+                pendingBytes.compact();
+            }
+            decode(chunk, false);
+            // the rest, if any, is the beginning of a sequence to be completed by the next chunk ...
+            pendingBytes.put(chunk);
+        } catch (final RuntimeException e) {
+            chunk.position(chunk.limit());
+            reset();
+            throw e;
+        }
+        return this;
+    }
+
+    private void decode(final ByteBuffer bytes, final boolean endOfInput) {
+        CoderResult result = CoderResult.OVERFLOW;
+        while (result.isOverflow()) {
+            result = decoder.decode(bytes, decoded, endOfInput);
+            feed(decoded.flip());
+            decoded.clear();
+        }
+    }
+
+    /**
+     * Determines if <em>this</em> feeder holds the beginning of a document that has not been completed yet.
+     */
+    public final boolean isPending() {
+        return (0 < length) || (0 < pendingBytes.position());
+    }
+
+    /**
+     * Signals the end of input. Completes and binds a final document that can only be recognized as complete at
+     * the end of input, e.g. a trailing {@code null} without a line break.
+     * Afterwards, <em>this</em> feeder is {@linkplain #reset() reset} and may be fed again.
+     * <p>
+     * Returns <em>this</em> {@link Feeder}.
+     *
+     * @throws IllegalArgumentException if an incomplete document remains or the final document is malformed or
+     *                                  does not match the record type.
+     */
+    public final Feeder<T> finish() {
+        try {
+            pendingBytes.flip();
+            decode(pendingBytes, true);
+            decoder.flush(decoded);
+            feed(decoded.flip());
+            if (isScalar()) {
+                complete();
+            } else if (0 < length) {
+                throw new IllegalArgumentException(
+                        "unexpected end of input - incomplete document: %s".formatted(new String(document, 0, length)));
+            }
+        } finally {
+            reset();
+        }
+        return this;
+    }
+
+    /**
+     * Discards any pending input, so that <em>this</em> feeder can be fed from scratch.
+     * <p>
+     * Returns <em>this</em> {@link Feeder}.
+     */
+    public final Feeder<T> reset() {
+        clear();
+        decoder.reset();
+        decoded.clear();
+        pendingBytes.clear();
+        return this;
+    }
+
+    private void clear() {
+        length = 0;
+        depth = 0;
+        inString = false;
+        escaped = false;
+        if (MAX_RETAINED_CAPACITY < document.length) {
+            document = new char[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Determines if the current document is a top level value other than an object, an array or a string, which
+     * is only complete when followed by whitespace, another document or the end of input.
+     */
+    private boolean isScalar() {
+        return (0 < length) && (0 == depth) && !inString;
+    }
+
+    private void next(final char c) {
+        if (isScalar() && isScalarLimit(c)) {
+            complete();
+        }
+        if ((0 == length) && Character.isWhitespace(c)) {
+            // whitespace between documents is skipped ...
+            return;
+        }
+        append(c);
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if ('\\' == c) {
+                escaped = true;
+            } else if ('"' == c) {
+                inString = false;
+                completeIfTopLevel();
+            }
+        } else if ('"' == c) {
+            inString = true;
+        } else if (('{' == c) || ('[' == c)) {
+            depth += 1;
+        } else if ((('}' == c) || (']' == c)) && (0 < depth)) {
+            depth -= 1;
+            completeIfTopLevel();
+        }
+    }
+
+    private static boolean isScalarLimit(final char c) {
+        return Character.isWhitespace(c) || ('{' == c) || ('[' == c) || ('"' == c);
+    }
+
+    private void append(final char c) {
+        if (document.length == length) {
+            document = Arrays.copyOf(document, 2 * length);
+        }
+        document[length++] = c;
+    }
+
+    private void completeIfTopLevel() {
+        if (0 == depth) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        final char[] chars = document;
+        final int count = length;
+        clear();
+        consumer.accept(reflector.recordType().cast(Binder.bind(reflector, chars, count)));
+    }
+}
@@ -5,33 +5,51 @@ import de.team33.patterns.enums.pan.Values;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 @SuppressWarnings("MethodMayBeStatic")
 final class Generalizer {
 
+    private static final Map<Class<?>, Generalizer> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> sourceClass;
     private final Mapping mapping;
 
     private Generalizer(final Class<?> sourceClass) {
+        this.sourceClass = sourceClass;
         this.mapping = Mapping.of(sourceClass);
-        if (null == mapping) {
-            throw new IllegalArgumentException("cannot map " + sourceClass.getCanonicalName());
-        }
+    }
+
+    /**
+     * Returns the (cached) {@link Generalizer} for the given <em>sourceClass</em>.
+     * <p>
+     * The result is also available for an unsupported <em>sourceClass</em>, but will fail when
+     * {@linkplain #apply(Object) applied}.
+     */
+    static Generalizer of(final Class<?> sourceClass) {
+        return CACHE.computeIfAbsent(sourceClass, Generalizer::new);
     }
 
     static JsonValue map(final Object source) {
         if (null == source) {
             return JsonValue.NULL;
         } else {
-            return new Generalizer(source.getClass()).apply(source);
+            return of(source.getClass()).apply(source);
         }
     }
 
-    private JsonValue apply(final Object source) {
-        return mapping.method(this)
-                      .apply(source);
+    /**
+     * Maps the given (non-{@code null}) <em>source</em>, which must be an instance of the underlying source class.
+     */
+    final JsonValue apply(final Object source) {
+        if (null == mapping) {
+            throw new IllegalArgumentException("cannot map " + sourceClass.getCanonicalName());
+        }
+        return mapping.method.map(this, source);
     }
 
     private JsonBoolean mapBoolean(final boolean source) {
@@ -51,23 +69,23 @@ final class Generalizer {
     }
 
     private JsonNumber mapLong(final long source) {
-        return new JsonNumber(BigDecimal.valueOf(source));
+        return JsonNumber.of(source);
     }
 
     private JsonNumber mapFloat(final float source) {
-        return new JsonNumber(new BigDecimal(Float.toString(source)));
+        return JsonNumber.of(JsonNumber.widened(source));
     }
 
     private JsonNumber mapDouble(final double source) {
-        return new JsonNumber(new BigDecimal(Double.toString(source)));
+        return JsonNumber.of(source);
     }
 
     private JsonNumber mapBigInteger(final BigInteger source) {
-        return new JsonNumber(new BigDecimal(source));
+        return JsonNumber.of(new BigDecimal(source));
     }
 
     private JsonNumber mapBigDecimal(final BigDecimal source) {
-        return new JsonNumber(source);
+        return JsonNumber.of(source);
     }
 
     private JsonValue mapEnum(final Enum<?> source) {
@@ -88,6 +106,9 @@ final class Generalizer {
 
     private JsonArray mapArray(final Object array) {
         final JsonArray.Builder builder = JsonArray.builder();
+        if (array.getClass().componentType().isPrimitive()) {
+            return mapPrimitives(array, builder);
+        }
         final int length = Array.getLength(array);
         for (int index = 0; index < length; ++index) {
             final JsonValue jsonValue = map(Array.get(array, index));
@@ -96,11 +117,70 @@ final class Generalizer {
         return builder.build();
     }
 
+    private JsonArray mapPrimitives(final Object array, final JsonArray.Builder builder) {
+        if (array instanceof final int[] values) {
+            for (final int value : values) {
+                builder.add(mapLong(value));
+            }
+        } else if (array instanceof final long[] values) {
+            for (final long value : values) {
+                builder.add(mapLong(value));
+            }
+        } else if (array instanceof final double[] values) {
+            for (final double value : values) {
+                builder.add(mapDouble(value));
+            }
+        } else if (array instanceof final float[] values) {
+            for (final float value : values) {
+                builder.add(mapFloat(value));
+            }
+        } else if (array instanceof final short[] values) {
+            for (final short value : values) {
+                builder.add(mapLong(value));
+            }
+        } else if (array instanceof final byte[] values) {
+            for (final byte value : values) {
+                builder.add(mapLong(value));
+            }
+        } else if (array instanceof final boolean[] values) {
+            for (final boolean value : values) {
+                builder.add(mapBoolean(value));
+            }
+        } else if (array instanceof final char[] values) {
+            for (final char value : values) {
+                builder.add(mapChar(value));
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonArray mapCollection(final Collection<?> collection) {
+        final JsonArray.Builder builder = JsonArray.builder();
+        for (final Object element : collection) {
+            builder.add(map(element));
+        }
+        return builder.build();
+    }
+
+    private JsonObject mapMap(final Map<?, ?> source) {
+        final var builder = JsonObject.builder();
+        for (final Map.Entry<?, ?> entry : source.entrySet()) {
+            builder.put(Util.memberName(entry.getKey()), map(entry.getValue()));
+        }
+        return builder.build();
+    }
+
+    private JsonValue mapOptional(final Optional<?> source) {
+        return map(source.orElse(null));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private JsonObject mapRecord(final Record source) {
         final var builder = JsonObject.builder();
-        final var stage = Triton.toMap(source);
-        for (final Map.Entry<String, Object> entry : stage.entrySet()) {
-            builder.put(entry.getKey(), map(entry.getValue()));
+        final Triton.Reflector reflector = Triton.reflector((Class) source.getClass());
+        final int size = reflector.size();
+        for (int index = 0; index < size; ++index) {
+            builder.put(reflector.name(index), map(reflector.get(source, index)));
         }
         return builder.build();
     }
@@ -120,6 +200,9 @@ final class Generalizer {
         STRING(String.class, Generalizer::mapString),
         ENUM(Enum.class, Generalizer::mapEnum),
         ARRAY(Class::isArray, Generalizer::mapArray),
+        COLLECTION(Collection.class, Generalizer::mapCollection),
+        MAP(Map.class, Generalizer::mapMap),
+        OPTIONAL(Optional.class, Generalizer::mapOptional),
         RECORD(Record.class, Generalizer::mapRecord),
         STRINGABLE(Stringable::supports, Generalizer::mapStringable);
 
@@ -143,10 +226,6 @@ final class Generalizer {
                          .orElse(null);
         }
 
-        final Function<Object, JsonValue> method(final Generalizer mapper) {
-            return source -> method.map(mapper, source);
-        }
-
         @FunctionalInterface
         interface Method<T> {
 
@@ -0,0 +1,138 @@
+package de.team33.patterns.records.triton;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Formats and parses {@link Instant Instants} in the ISO-8601 format of {@link Instant#toString()} and
+ * {@link Instant#parse(CharSequence)}, e.g. {@code "2024-01-02T03:04:05.678Z"}.
+ * <p>
+ * The common cases - years from 0000 to 9999 in UTC - are handled directly, without a
+ * {@link java.time.format.DateTimeFormatter}. Anything else is delegated to {@link Instant}.
+ */
+final class IsoInstant {
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MAX_YEAR = 9999;
+    private static final int[] FRACTION_SCALES = {1, 1000, 1000_000};
+    private static final int CANONICAL_LENGTH = 20;
+
+    private IsoInstant() {
+    }
+
+    static String format(final Instant instant) {
+        final long epochDay = Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_DAY);
+        final int secondOfDay = Math.floorMod(instant.getEpochSecond(), SECONDS_PER_DAY);
+        // civil date from days since 1970-01-01, see H. Hinnant, "chrono-Compatible Low-Level Date Algorithms" ...
+        final long days = epochDay + 719468;
+        final long era = Math.floorDiv(days, 146097);
+        final int dayOfEra = (int) (days - era * 146097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = (shiftedMonth < 10) ? (shiftedMonth + 3) : (shiftedMonth - 9);
+        final long year = yearOfEra + era * 400 + ((month <= 2) ? 1 : 0);
+        if ((0 > year) || (MAX_YEAR < year)) {
+            return instant.toString();
+        }
+        final int nanos = instant.getNano();
+        final char[] result = new char[CANONICAL_LENGTH + fractionLength(nanos)];
+        digits(result, 0, (int) year, 4);
+        result[4] = '-';
+        digits(result, 5, month, 2);
+        result[7] = '-';
+        digits(result, 8, day, 2);
+        result[10] = 'T';
+        digits(result, 11, secondOfDay / 3600, 2);
+        result[13] = ':';
+        digits(result, 14, (secondOfDay / 60) % 60, 2);
+        result[16] = ':';
+        digits(result, 17, secondOfDay % 60, 2);
+        if (0 < nanos) {
+            final int length = fractionLength(nanos) - 1;
+            result[19] = '.';
+            digits(result, 20, nanos / FRACTION_SCALES[(9 - length) / 3], length);
+        }
+        result[result.length - 1] = 'Z';
+        return new String(result);
+    }
+
+    /**
+     * Returns the length of the fraction part including the decimal point, using groups of three digits.
+     */
+    private static int fractionLength(final int nanos) {
+        if (0 == nanos) {
+            return 0;
+        } else if (0 == nanos % 1000_000) {
+            return 4;
+        } else if (0 == nanos % 1000) {
+            return 7;
+        } else {
+            return 10;
+        }
+    }
+
+    private static void digits(final char[] target, final int offset, final int value, final int length) {
+        int rest = value;
+        for (int index = offset + length - 1; index >= offset; --index) {
+            target[index] = (char) ('0' + (rest % 10));
+            rest /= 10;
+        }
+    }
+
+    static Instant parse(final String text) {
+        final int length = text.length();
+        if ((CANONICAL_LENGTH <= length) && (length <= CANONICAL_LENGTH + 10) && isCanonical(text)) {
+            final int year = number(text, 0, 4);
+            final int month = number(text, 5, 2);
+            final int day = number(text, 8, 2);
+            final int hour = number(text, 11, 2);
+            final int minute = number(text, 14, 2);
+            final int second = number(text, 17, 2);
+            final int nanos = fraction(text, 20, length - 1);
+            if ((0 <= (year | month | day | hour | minute | second | nanos)) &&
+                (1 <= month) && (month <= 12) && (1 <= day) && (day <= 31) &&
+                (hour < 24) && (minute < 60) && (second < 60)) {
+                final long epochDay = LocalDate.of(year, month, day).toEpochDay();
+                return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second,
+                                             nanos);
+            }
+        }
+        // anything else, e.g. a leap second, an offset or a malformed text ...
+        return Instant.parse(text);
+    }
+
+    private static boolean isCanonical(final String text) {
+        return ('-' == text.charAt(4)) && ('-' == text.charAt(7)) && ('T' == text.charAt(10)) &&
+               (':' == text.charAt(13)) && (':' == text.charAt(16)) && ('Z' == text.charAt(text.length() - 1)) &&
+               ((CANONICAL_LENGTH == text.length()) || ('.' == text.charAt(19)));
+    }
+
+    /**
+     * Returns the decimal value of the given number of digits or a negative value if there are non-digits.
+     */
+    private static int number(final String text, final int offset, final int length) {
+        int result = 0;
+        for (int index = offset; index < offset + length; ++index) {
+            final int digit = text.charAt(index) - '0';
+            if ((0 > digit) || (9 < digit)) {
+                return -1;
+            }
+            result = 10 * result + digit;
+        }
+        return result;
+    }
+
+    private static int fraction(final String text, final int start, final int end) {
+        if (start >= end) {
+            return (start - 1 == end) ? 0 : -1;
+        }
+        final int value = number(text, start, end - start);
+        int scale = 1;
+        for (int count = end - start; count < 9; ++count) {
+            scale *= 10;
+        }
+        return (0 > value) ? -1 : (value * scale);
+    }
+}
@@ -1,12 +1,516 @@
 package de.team33.patterns.records.triton;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
 
+/**
+ * Represents a JSON number.
+ * <p>
+ * Numbers that fit into a {@code long} or originate from a {@code double} are held as such. A {@link BigDecimal}
+ * is only created when it is actually requested or when the value cannot be represented otherwise.
+ * <p>
+ * Two instances are equal if their {@linkplain #bigDecimalValue() decimal values} are equal.
+ */
 @SuppressWarnings("StaticInheritance")
-record JsonNumber(BigDecimal value) implements JsonValue {
+abstract class JsonNumber implements JsonValue {
 
-    JsonNumber {
-        Objects.requireNonNull(value);
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final int MAX_EXACT_FLOAT_DIGITS = 7;
+    private static final int MAX_EXPONENT_DIGITS = 3;
+    private static final int MAX_PLAIN_DIGITS = 21;
+    private static final double EXACT_INTEGER_LIMIT = 0x1p53;
+    private static final double[] DOUBLE_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private JsonNumber() {
+    }
+
+    static JsonNumber of(final long value) {
+        return new LongNumber(value);
+    }
+
+    static JsonNumber of(final double value) {
+        return new DoubleNumber(requireFinite(value));
+    }
+
+    /**
+     * Returns the given <em>value</em> if it can be represented as a JSON number.
+     *
+     * @throws IllegalArgumentException if the <em>value</em> is infinite or NaN.
+     */
+    static double requireFinite(final double value) {
+        if (Double.isFinite(value)) {
+            return value;
+        }
+        throw new IllegalArgumentException("not a finite number: %s".formatted(value));
+    }
+
+    /**
+     * Returns the {@code double} that has the same decimal representation as the given {@code float}
+     * <em>value</em>, e.g. {@code 1.1} for {@code 1.1f}, in contrast to a plain widening conversion.
+     */
+    static double widened(final float value) {
+        return Double.parseDouble(Float.toString(value));
+    }
+
+    /**
+     * Returns the canonical literal of the given <em>value</em>, the same as for a {@link BigDecimal} of its
+     * shortest decimal representation.
+     *
+     * @see #canonical(BigDecimal)
+     * @see RenderOption#CANONICAL
+     */
+    static String canonical(final double value) {
+        if ((value == Math.rint(value)) && (Math.abs(value) < EXACT_INTEGER_LIMIT)) {
+            // the common case, same result as below ...
+            return Long.toString((long) value);
+        }
+        return canonical(new BigDecimal(Double.toString(value)));
+    }
+
+    /**
+     * Returns the canonical literal of the given <em>value</em>: without trailing zeros and, if integral and not
+     * too large, as a plain integer.
+     *
+     * @see RenderOption#CANONICAL
+     */
+    static String canonical(final BigDecimal value) {
+        final BigDecimal stripped = value.stripTrailingZeros();
+        if ((0 > stripped.scale()) && (stripped.precision() - stripped.scale() <= MAX_PLAIN_DIGITS)) {
+            return stripped.toPlainString();
+        }
+        return stripped.toString();
+    }
+
+    static JsonNumber of(final BigDecimal value) {
+        return new DecimalNumber(value);
+    }
+
+    /**
+     * Returns a {@link JsonNumber} from the given <em>chars</em>, which are expected to comply with the JSON number
+     * syntax.
+     */
+    static JsonNumber parse(final char[] chars, final int offset, final int length) {
+        final boolean negative = ('-' == chars[offset]);
+        final int start = negative ? (offset + 1) : offset;
+        final int limit = offset + length;
+        if ((limit - start) <= MAX_LONG_DIGITS) {
+            long value = 0;
+            for (int index = start; index < limit; ++index) {
+                final int digit = chars[index] - '0';
+                if ((0 > digit) || (9 < digit)) {
+                    return new TextNumber(new String(chars, offset, length));
+                }
+                value = (10 * value) + digit;
+            }
+            return new LongNumber(negative ? -value : value);
+        }
+        return new TextNumber(new String(chars, offset, length));
+    }
+
+    /**
+     * Returns the given <em>value</em> as {@code short}.
+     *
+     * @throws ArithmeticException if the <em>value</em> is out of range.
+     */
+    static short toShortExact(final long value) {
+        if ((short) value == value) {
+            return (short) value;
+        }
+        throw new ArithmeticException("Overflow");
+    }
+
+    /**
+     * Returns the given <em>value</em> as {@code byte}.
+     *
+     * @throws ArithmeticException if the <em>value</em> is out of range.
+     */
+    static byte toByteExact(final long value) {
+        if ((byte) value == value) {
+            return (byte) value;
+        }
+        throw new ArithmeticException("Overflow");
+    }
+
+    /**
+     * Determines if <em>this</em> number is held as a {@code long}.
+     */
+    boolean isLong() {
+        return false;
+    }
+
+    /**
+     * Determines if <em>this</em> number is held as a {@code double}.
+     */
+    boolean isDouble() {
+        return false;
+    }
+
+    abstract long longValueExact();
+
+    final int intValueExact() {
+        return Math.toIntExact(longValueExact());
+    }
+
+    final short shortValueExact() {
+        return toShortExact(longValueExact());
+    }
+
+    final byte byteValueExact() {
+        return toByteExact(longValueExact());
+    }
+
+    abstract double doubleValue();
+
+    abstract float floatValue();
+
+    BigInteger bigIntegerValueExact() {
+        return bigDecimalValue().toBigIntegerExact();
+    }
+
+    abstract BigDecimal bigDecimalValue();
+
+    /**
+     * Returns the JSON representation of <em>this</em> number.
+     */
+    abstract String literal();
+
+    /**
+     * Returns the canonical literal of <em>this</em> number.
+     *
+     * @see RenderOption#CANONICAL
+     */
+    String canonical() {
+        return canonical(bigDecimalValue());
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof final LongNumber other && this instanceof final LongNumber self) {
+            return self.value == other.value;
+        }
+        return (obj instanceof final JsonNumber other) && bigDecimalValue().equals(other.bigDecimalValue());
+    }
+
+    @Override
+    public final int hashCode() {
+        return bigDecimalValue().hashCode();
+    }
+
+    @Override
+    public final String toString() {
+        return literal();
+    }
+
+    /**
+     * A reusable scanner that determines the primitive value of a JSON number directly from its characters,
+     * without creating a {@link JsonNumber} or a {@link String} in the common cases: a plain integer that fits into
+     * a {@code long}, or a number with few significant digits and a moderate exponent.
+     * The results are the same as those of the respective methods of a {@linkplain #parse(char[], int, int) parsed}
+     * {@link JsonNumber}.
+     * <p>
+     * An instance is not thread-safe. Its results are only valid as long as the scanned characters are unchanged.
+     */
+    static final class Decimal {
+
+        private char[] chars;
+        private int offset;
+        private int length;
+        private boolean negative;
+        private boolean integral;
+        private long mantissa;
+        private int digits;
+        private int exponent;
+        private int exponentDigits;
+
+        /**
+         * Scans the given <em>chars</em>, which are expected to comply with the JSON number syntax.
+         * <p>
+         * Returns <em>this</em>.
+         */
+        final Decimal scan(final char[] chars, final int offset, final int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+            this.negative = ('-' == chars[offset]);
+            this.integral = true;
+            this.mantissa = 0;
+            this.digits = 0;
+            this.exponent = 0;
+            this.exponentDigits = 0;
+            final int limit = offset + length;
+            int index = negative ? (offset + 1) : offset;
+            for (; (index < limit) && isDigitOrPoint(chars[index]); ++index) {
+                final char c = chars[index];
+                if ('.' == c) {
+                    integral = false;
+                } else {
+                    if ((0 != digits) || ('0' != c)) {
+                        digits += 1;
+                    }
+                    // may overflow, but is only used as long as there are few digits ...
+                    mantissa = (10 * mantissa) + (c - '0');
+                    exponent -= integral ? 0 : 1;
+                }
+            }
+            if (index < limit) {
+                scanExponent(index + 1, limit);
+            }
+            return this;
+        }
+
+        private void scanExponent(final int start, final int limit) {
+            integral = false;
+            final boolean negativeExponent = ('-' == chars[start]);
+            int index = (negativeExponent || ('+' == chars[start])) ? (start + 1) : start;
+            int value = 0;
+            for (; index < limit; ++index) {
+                if ((0 != value) || ('0' != chars[index])) {
+                    exponentDigits += 1;
+                }
+                value = (10 * value) + (chars[index] - '0');
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        private static boolean isDigitOrPoint(final char c) {
+            return ('.' == c) || (('0' <= c) && (c <= '9'));
+        }
+
+        private boolean isLong() {
+            return integral && (digits <= MAX_LONG_DIGITS);
+        }
+
+        private boolean isExact(final int maxDigits, final int maxExponent) {
+            return (digits <= maxDigits) && (exponentDigits <= MAX_EXPONENT_DIGITS) &&
+                   (-maxExponent <= exponent) && (exponent <= maxExponent);
+        }
+
+        private long signed() {
+            return negative ? -mantissa : mantissa;
+        }
+
+        private JsonNumber parsed() {
+            return parse(chars, offset, length);
+        }
+
+        /**
+         * @throws ArithmeticException if the value has a nonzero fractional part or is out of range.
+         * @see JsonNumber#longValueExact()
+         */
+        final long longValueExact() {
+            return isLong() ? signed() : parsed().longValueExact();
+        }
+
+        /**
+         * @see JsonNumber#doubleValue()
+         */
+        final double doubleValue() {
+            if (isLong()) {
+                return signed();
+            } else if (isExact(MAX_EXACT_DOUBLE_DIGITS, DOUBLE_POWERS.length - 1)) {
+                // both operands are exact, so the single operation is rounded correctly ...
+                final double result = (0 > exponent)
+                                      ? (mantissa / DOUBLE_POWERS[-exponent])
+                                      : (mantissa * DOUBLE_POWERS[exponent]);
+                return negative ? -result : result;
+            } else {
+                return parsed().doubleValue();
+            }
+        }
+
+        /**
+         * @see JsonNumber#floatValue()
+         */
+        final float floatValue() {
+            if (isLong()) {
+                return signed();
+            } else if (isExact(MAX_EXACT_FLOAT_DIGITS, FLOAT_POWERS.length - 1)) {
+                // both operands are exact, so the single operation is rounded correctly ...
+                final float result = (0 > exponent)
+                                     ? (mantissa / FLOAT_POWERS[-exponent])
+                                     : (mantissa * FLOAT_POWERS[exponent]);
+                return negative ? -result : result;
+            } else {
+                return parsed().floatValue();
+            }
+        }
+    }
+
+    private static final class LongNumber extends JsonNumber {
+
+        private final long value;
+
+        private LongNumber(final long value) {
+            this.value = value;
+        }
+
+        @Override
+        final boolean isLong() {
+            return true;
+        }
+
+        @Override
+        final long longValueExact() {
+            return value;
+        }
+
+        @Override
+        final double doubleValue() {
+            return value;
+        }
+
+        @Override
+        final float floatValue() {
+            return value;
+        }
+
+        @Override
+        final BigInteger bigIntegerValueExact() {
+            return BigInteger.valueOf(value);
+        }
+
+        @Override
+        final BigDecimal bigDecimalValue() {
+            return BigDecimal.valueOf(value);
+        }
+
+        @Override
+        final String literal() {
+            return Long.toString(value);
+        }
+
+        @Override
+        final String canonical() {
+            return literal();
+        }
+    }
+
+    private static final class DoubleNumber extends JsonNumber {
+
+        private static final double LONG_LIMIT = 0x1p63;
+
+        private final double value;
+
+        private DoubleNumber(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        final boolean isDouble() {
+            return true;
+        }
+
+        @Override
+        final long longValueExact() {
+            if ((value == Math.rint(value)) && (-LONG_LIMIT <= value) && (value < LONG_LIMIT)) {
+                return (long) value;
+            }
+            return bigDecimalValue().longValueExact();
+        }
+
+        @Override
+        final double doubleValue() {
+            return value;
+        }
+
+        @Override
+        final float floatValue() {
+            return (float) value;
+        }
+
+        @Override
+        final BigDecimal bigDecimalValue() {
+            return new BigDecimal(literal());
+        }
+
+        @Override
+        final String literal() {
+            return Double.toString(value);
+        }
+
+        @Override
+        final String canonical() {
+            return canonical(value);
+        }
+    }
+
+    private static final class TextNumber extends JsonNumber {
+
+        private final String text;
+        private BigDecimal decimal;
+
+        private TextNumber(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        final long longValueExact() {
+            return bigDecimalValue().longValueExact();
+        }
+
+        @Override
+        final double doubleValue() {
+            return Double.parseDouble(text);
+        }
+
+        @Override
+        final float floatValue() {
+            return Float.parseFloat(text);
+        }
+
+        @Override
+        final BigDecimal bigDecimalValue() {
+            if (null == decimal) {
+                decimal = new BigDecimal(text);
+            }
+            return decimal;
+        }
+
+        @Override
+        final String literal() {
+            return text;
+        }
+    }
+
+    private static final class DecimalNumber extends JsonNumber {
+
+        private final BigDecimal value;
+
+        private DecimalNumber(final BigDecimal value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        @Override
+        final long longValueExact() {
+            return value.longValueExact();
+        }
+
+        @Override
+        final double doubleValue() {
+            return value.doubleValue();
+        }
+
+        @Override
+        final float floatValue() {
+            return value.floatValue();
+        }
+
+        @Override
+        final BigDecimal bigDecimalValue() {
+            return value;
+        }
+
+        @Override
+        final String literal() {
+            return value.toString();
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,9 +6,11 @@ import java.util.*;
 final class JsonObject extends AbstractList<JsonObject.Entry> implements JsonValue {
 
     private final List<Entry> entries;
+    private final Map<String, Integer> indices;
 
-    private JsonObject(final List<Entry> entries) {
+    private JsonObject(final List<Entry> entries, final Map<String, Integer> indices) {
         this.entries = List.copyOf(entries);
+        this.indices = Map.copyOf(indices);
     }
 
     static Builder builder() {
@@ -25,6 +27,15 @@ final class JsonObject extends AbstractList<JsonObject.Entry> implements JsonVal
         return entries.size();
     }
 
+    /**
+     * Returns the value of the member with the given <em>name</em> or {@code null} if there is no such member.
+     * A member with a JSON {@code null} value results in {@link JsonValue#NULL}.
+     */
+    final JsonValue get(final String name) {
+        final Integer index = indices.get(name);
+        return (null == index) ? null : entries.get(index).value();
+    }
+
     record Entry(String name, JsonValue value) {
     }
 
@@ -45,7 +56,7 @@ final class JsonObject extends AbstractList<JsonObject.Entry> implements JsonVal
         }
 
         final JsonObject build() {
-            return new JsonObject(entries);
+            return new JsonObject(entries, indices);
         }
     }
 }
@@ -9,4 +9,12 @@ interface JsonValue {
             return "%s.NULL".formatted(JsonValue.class.getSimpleName());
         }
     };
+
+    /**
+     * Returns the type of the given <em>value</em> as it is to be named in messages: {@link JsonNumber} for any
+     * number, regardless of its internal representation.
+     */
+    static Class<?> typeOf(final JsonValue value) {
+        return (value instanceof JsonNumber) ? JsonNumber.class : value.getClass();
+    }
 }
@@ -0,0 +1,154 @@
+package de.team33.patterns.records.triton;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes and applies differences between instances of a record type in the manner of a
+ * <em>JSON Merge Patch</em> (RFC 7396).
+ * <p>
+ * A patch is a JSON object that only contains the components that differ. Nested records and maps are
+ * compared member by member and result in nested patches, any other values, including arrays and collections,
+ * are replaced as a whole if they differ. A {@code null} member denotes a component (or map entry) that has
+ * become {@code null} (or has been removed).
+ */
+final class MergePatch {
+
+    private static final Renderer.Format FORMAT = Renderer.Format.of(RenderOption.CANONICAL);
+
+    private MergePatch() {
+    }
+
+    /**
+     * Returns the patch that turns the given <em>origin</em> into the given <em>target</em>, both of the record
+     * type of the given <em>reflector</em>. An empty JSON object if they do not differ.
+     */
+    static String diff(final Triton.Reflector<?> reflector, final Record origin, final Record target) {
+        if ((null == origin) || (null == target)) {
+            // a patch that is not a JSON object replaces the origin as a whole ...
+            return Renderer.render(target, reflector, FORMAT);
+        }
+        return Renderer.render(diffRecord(reflector, origin, target), FORMAT);
+    }
+
+    private static Map<String, Object> diffRecord(final Triton.Reflector<?> reflector,
+                                                  final Record origin,
+                                                  final Record target) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        final int size = reflector.size();
+        for (int index = 0; index < size; ++index) {
+            if (reflector.isIntegral(index)) {
+                final long value = reflector.getLong(target, index);
+                if (reflector.getLong(origin, index) != value) {
+                    result.put(reflector.name(index), value);
+                }
+            } else {
+                diffComponent(reflector, index, reflector.get(origin, index), reflector.get(target, index), result);
+            }
+        }
+        return result;
+    }
+
+    private static void diffComponent(final Triton.Reflector<?> reflector, final int index,
+                                      final Object origin, final Object target,
+                                      final Map<String, Object> result) {
+        final Triton.Reflector<?> nested = reflector.nested(index);
+        if ((null != nested) && (null != origin) && (null != target)) {
+            final Map<String, Object> patch = diffRecord(nested, (Record) origin, (Record) target);
+            if (!patch.isEmpty()) {
+                result.put(reflector.name(index), patch);
+            }
+        } else if ((origin instanceof final Map<?, ?> originMap) && (target instanceof final Map<?, ?> targetMap)) {
+            final Map<String, Object> patch = diffMap(originMap, targetMap);
+            if (!patch.isEmpty()) {
+                result.put(reflector.name(index), patch);
+            }
+        } else if (!Objects.deepEquals(origin, target)) {
+            result.put(reflector.name(index), target);
+        }
+    }
+
+    /**
+     * As a {@code null} member of a patch denotes a removed entry, entries with {@code null} values are treated
+     * as absent.
+     */
+    private static Map<String, Object> diffMap(final Map<?, ?> origin, final Map<?, ?> target) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        for (final Map.Entry<?, ?> entry : target.entrySet()) {
+            final Object value = entry.getValue();
+            if ((null != value) && !Objects.deepEquals(origin.get(entry.getKey()), value)) {
+                result.put(Util.memberName(entry.getKey()), value);
+            }
+        }
+        for (final Map.Entry<?, ?> entry : origin.entrySet()) {
+            if ((null != entry.getValue()) && (null == target.get(entry.getKey()))) {
+                result.put(Util.memberName(entry.getKey()), null);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the given <em>patch</em> to the given <em>origin</em> of the record type of the given
+     * <em>reflector</em> and returns the resulting new instance. Members of the patch that do not correspond to a
+     * component are ignored.
+     */
+    static Object apply(final Triton.Reflector<?> reflector, final Record origin, final String patch) {
+        final JsonValue value = Parser.parse(patch);
+        if ((null == origin) || !(value instanceof JsonObject)) {
+            return Resolver.of(reflector.recordType()).apply(value);
+        }
+        return applyRecord(reflector, origin, (JsonObject) value);
+    }
+
+    private static Object applyRecord(final Triton.Reflector<?> reflector,
+                                      final Record origin,
+                                      final JsonObject patch) {
+        final Object[] defaults = reflector.newArgs();
+        final Object[] args = new Object[reflector.size()];
+        for (int index = 0; index < args.length; ++index) {
+            args[index] = reflector.get(origin, index);
+        }
+        for (final JsonObject.Entry entry : patch) {
+            final int index = reflector.lookup(entry.name());
+            if (0 <= index) {
+                args[index] = (JsonValue.NULL == entry.value())
+                              ? defaults[index]
+                              : applyComponent(reflector, index, args[index], entry.value());
+            }
+        }
+        return reflector.newInstance(args);
+    }
+
+    private static Object applyComponent(final Triton.Reflector<?> reflector, final int index,
+                                         final Object origin, final JsonValue patch) {
+        final Triton.Reflector<?> nested = reflector.nested(index);
+        final Resolver resolver = reflector.decoder(index);
+        if ((null != origin) && (patch instanceof final JsonObject object) && (null != nested)) {
+            return applyRecord(nested, (Record) origin, object);
+        } else if ((origin instanceof final Map<?, ?> map) && (patch instanceof final JsonObject object) &&
+                   resolver.isMap()) {
+            return applyMap(resolver.elements(), map, object);
+        } else {
+            return resolver.apply(patch);
+        }
+    }
+
+    private static Map<String, Object> applyMap(final Resolver values, final Map<?, ?> origin,
+                                                final JsonObject patch) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        for (final Map.Entry<?, ?> entry : origin.entrySet()) {
+            result.put(Util.memberName(entry.getKey()), entry.getValue());
+        }
+        for (final JsonObject.Entry entry : patch) {
+            if (JsonValue.NULL == entry.value()) {
+                result.remove(entry.name());
+            } else {
+                result.put(entry.name(), values.apply(entry.value()));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,190 @@
+package de.team33.patterns.records.triton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A fixed index of distinct names, based on a table that is built once on creation by <em>hash and displace</em>
+ * so that no two names share a slot (a perfect hash): the names are distributed into small buckets, and for each
+ * bucket a displacement is chosen that maps its names to slots that are still free.
+ * <p>
+ * A {@linkplain #indexOf(String) lookup} neither allocates nor boxes. It locates the only candidate slot of a name
+ * by two hash steps and compares at most one name. Only names with identical {@linkplain String#hashCode() hash
+ * codes} cannot be separated this way; if there are any, the whole index falls back to an open addressing table
+ * with linear probing.
+ */
+final class NameIndex {
+
+    private static final int GOLDEN = 0x9E3779B9;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final int bucketShift;
+    private final int mask;
+    private final int[] displacements;
+    private final String[] slotNames;
+    private final int[] slotIndices;
+    private final boolean perfect;
+
+    private NameIndex(final int bits, final boolean perfect) {
+        // about two names per bucket, at least twice as many slots as names ...
+        final int bucketBits = perfect ? Math.max(1, bits - 2) : 1;
+        this.bucketShift = 32 - bucketBits;
+        this.mask = (1 << bits) - 1;
+        this.displacements = new int[1 << bucketBits];
+        this.slotNames = new String[1 << bits];
+        this.slotIndices = new int[1 << bits];
+        this.perfect = perfect;
+    }
+
+    /**
+     * Returns a new {@link NameIndex} that maps each of the given <em>names</em> to its position.
+     *
+     * @throws IllegalArgumentException if the <em>names</em> are not distinct.
+     */
+    static NameIndex of(final List<String> names) {
+        if (names.size() != names.stream().distinct().count()) {
+            throw new IllegalArgumentException("names must be distinct - but was %s".formatted(names));
+        }
+        // at least twice as many slots as names ...
+        final int bits = Math.max(2, 33 - Integer.numberOfLeadingZeros(names.size()));
+        if (names.size() != names.stream().mapToInt(String::hashCode).distinct().count()) {
+            // names with identical hash codes can't be separated: fall back to a table with probing ...
+            final NameIndex result = new NameIndex(bits, false);
+            result.putProbing(names);
+            return result;
+        }
+        for (int more = 0; true; ++more) {
+            final NameIndex result = new NameIndex(bits + more, true);
+            if (result.putDisplaced(names)) {
+                return result;
+            }
+        }
+    }
+
+    private static int mix(final int hash) {
+        int result = hash * GOLDEN;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        return result ^ (result >>> 16);
+    }
+
+    private int bucket(final int hash) {
+        return (hash * GOLDEN) >>> bucketShift;
+    }
+
+    private int slot(final int hash, final int displacement) {
+        return mix(hash + displacement) & mask;
+    }
+
+    /**
+     * Puts the given <em>names</em> into the table, choosing a displacement for each bucket, starting with the
+     * largest buckets.
+     *
+     * @return {@code false} if there is a bucket for which no suitable displacement could be found.
+     */
+    private boolean putDisplaced(final List<String> names) {
+        final List<List<Integer>> buckets = new ArrayList<>(displacements.length);
+        for (int bucket = 0; bucket < displacements.length; ++bucket) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int index = 0; index < names.size(); ++index) {
+            buckets.get(bucket(names.get(index).hashCode())).add(index);
+        }
+        final List<Integer> order = IntStream.range(0, buckets.size())
+                                             .boxed()
+                                             .sorted(Comparator.comparingInt(bucket -> -buckets.get(bucket).size()))
+                                             .toList();
+        final int[] slots = new int[buckets.get(order.get(0)).size()];
+        for (final int bucket : order) {
+            final List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+            final int displacement = displacement(names, members, slots);
+            if (0 > displacement) {
+                return false;
+            }
+            displacements[bucket] = displacement;
+            for (int i = 0; i < members.size(); ++i) {
+                slotNames[slots[i]] = names.get(members.get(i));
+                slotIndices[slots[i]] = members.get(i);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a displacement that maps the names of the given <em>bucket</em> to distinct free slots, which are
+     * stored to the given <em>slots</em>, or {@code -1} if there is none.
+     */
+    private int displacement(final List<String> names, final List<Integer> bucket, final int[] slots) {
+        for (int displacement = 0; displacement < MAX_DISPLACEMENT; ++displacement) {
+            if (isFree(names, bucket, displacement, slots)) {
+                return displacement;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isFree(final List<String> names, final List<Integer> bucket, final int displacement,
+                           final int[] slots) {
+        for (int i = 0; i < bucket.size(); ++i) {
+            final int slot = slot(names.get(bucket.get(i)).hashCode(), displacement);
+            if (null != slotNames[slot]) {
+                return false;
+            }
+            for (int k = 0; k < i; ++k) {
+                if (slots[k] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private void putProbing(final List<String> names) {
+        for (int index = 0; index < names.size(); ++index) {
+            final String name = names.get(index);
+            int slot = slot(name.hashCode(), 0);
+            while (null != slotNames[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            slotNames[slot] = name;
+            slotIndices[slot] = index;
+        }
+    }
+
+    /**
+     * Determines if this index is a perfect hash, i.e. if it does not fall back to probing.
+     */
+    final boolean isPerfect() {
+        return perfect;
+    }
+
+    /**
+     * Returns the position of the given <em>name</em> or {@code -1} if the name is not part of this index.
+     */
+    final int indexOf(final String name) {
+        final int hash = name.hashCode();
+        if (perfect) {
+            final int slot = slot(hash, displacements[bucket(hash)]);
+            final String candidate = slotNames[slot];
+            return ((candidate == name) || name.equals(candidate)) ? slotIndices[slot] : -1;
+        }
+        int slot = slot(hash, 0);
+        String candidate = slotNames[slot];
+        while (null != candidate) {
+            if ((candidate == name) || candidate.equals(name)) {
+                return slotIndices[slot];
+            }
+            slot = (slot + 1) & mask;
+            candidate = slotNames[slot];
+        }
+        return -1;
+    }
+}
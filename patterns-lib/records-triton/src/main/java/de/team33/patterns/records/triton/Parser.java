@@ -1,25 +1,34 @@
 package de.team33.patterns.records.triton;
 
-import java.math.BigDecimal;
-import java.util.regex.Pattern;
+import java.io.Reader;
+import java.util.function.Consumer;
 
 final class Parser {
 
     private static final String LIMIT_CHARS = ",}]";
-    private static final Pattern NUMBER =
-            Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
-    private static final Pattern NULL = Pattern.compile("null");
-    private static final Pattern BOOLEAN = Pattern.compile("true|false");
     private static final char COMMA = ',';
     private static final char COLON = ':';
 
     private final Source source;
+    private final JsonNumber.Decimal decimal = new JsonNumber.Decimal();
 
-    private Parser(final String source) {
-        this.source = new Source(source);
+    Parser(final Source source) {
+        this.source = source;
     }
 
     static JsonValue parse(final String source) {
+        return parse(new Source(source));
+    }
+
+    static JsonValue parse(final char[] source) {
+        return parse(Source.of(source));
+    }
+
+    static JsonValue parse(final Reader source) {
+        return parse(Source.of(source));
+    }
+
+    private static JsonValue parse(final Source source) {
         return new Parser(source).parseRoot();
     }
 
@@ -30,7 +39,7 @@ final class Parser {
         return result;
     }
 
-    private JsonValue parseValue() {
+    final JsonValue parseValue() {
         final char next = source.peek();
         final JsonValue result = switch (next) {
             case '{' -> parseObject();
@@ -45,22 +54,31 @@ final class Parser {
     }
 
     private JsonObject parseObject() {
+        final JsonObject.Builder builder = JsonObject.builder();
+        parseObject(name -> builder.put(name, parseValue()));
+        return builder.build();
+    }
+
+    /**
+     * Parses the structure of a JSON object and passes the name of each member to the given <em>member</em>
+     * consumer, which in turn is responsible for consuming the corresponding value from the underlying
+     * {@link Source}.
+     */
+    final void parseObject(final Consumer<String> member) {
         source.expect('{')
               .skipWhitespace();
-        final JsonObject.Builder builder = JsonObject.builder();
         if (source.hasMore() && '}' == source.peek()) {
             source.skip();
         } else {
-            parseObjectBody(builder);
+            parseObjectBody(member);
             source.expect('}');
         }
-        return builder.build();
     }
 
-    private void parseObjectBody(final JsonObject.Builder builder) {
+    private void parseObjectBody(final Consumer<String> member) {
         char next = source.hasMore() ? COMMA : 0;
         while (COMMA == next) {
-            parseMember(builder);
+            parseMember(member);
             next = source.peek();
             if (COMMA == next) {
                 source.skip()
@@ -73,23 +91,43 @@ final class Parser {
         return Character.isWhitespace(c) || (0 <= LIMIT_CHARS.indexOf(c));
     }
 
+    private static boolean isDigit(final char c) {
+        return ('0' <= c) && (c <= '9');
+    }
+
+    private static boolean isExponent(final char c) {
+        return ('e' == c) || ('E' == c);
+    }
+
+    private static boolean isSign(final char c) {
+        return ('+' == c) || ('-' == c);
+    }
+
     private JsonArray parseArray() {
+        final JsonArray.Builder builder = JsonArray.builder();
+        parseArray(() -> builder.add(parseValue()));
+        return builder.build();
+    }
+
+    /**
+     * Parses the structure of a JSON array and notifies the given <em>element</em> callback for each element,
+     * which in turn is responsible for consuming the element from the underlying {@link Source}.
+     */
+    final void parseArray(final Runnable element) {
         source.expect('[')
               .skipWhitespace();
-        final JsonArray.Builder builder = JsonArray.builder();
         if (source.hasMore() && ']' == source.peek()) {
             source.skip();
         } else {
-            parseArrayBody(builder);
+            parseArrayBody(element);
             source.expect(']');
         }
-        return builder.build();
     }
 
-    private void parseArrayBody(final JsonArray.Builder builder) {
+    private void parseArrayBody(final Runnable element) {
         char next = source.hasMore() ? COMMA : 0;
         while (COMMA == next) {
-            builder.add(parseValue());
+            element.run();
             next = source.peek();
             if (COMMA == next) {
                 source.skip()
@@ -102,48 +140,142 @@ final class Parser {
         return new JsonString(StringLiteral.parse(source));
     }
 
-    private void parseMember(final JsonObject.Builder builder) {
+    private void parseMember(final Consumer<String> member) {
+        member.accept(parseName());
+    }
+
+    private String parseName() {
         final JsonValue next = parseValue();
         if (next instanceof final JsonString jsonString) {
-            final String name = jsonString.value();
             source.expect(COLON)
                   .skipWhitespace();
-            final JsonValue value = parseValue();
-            builder.put(name, value);
+            return jsonString.value();
         } else {
             throw new IllegalArgumentException(
                     "expected a value of type %s - but was %s".formatted(JsonString.class.getSimpleName(),
-                                                                         next.getClass().getSimpleName()));
+                                                                         JsonValue.typeOf(next).getSimpleName()));
         }
     }
 
+    /**
+     * Skips the next JSON value including subsequent whitespace, without building a {@link JsonValue}.
+     * The value is still checked for syntax errors.
+     */
+    final void skipValue() {
+        switch (source.peek()) {
+            case '{' -> parseObject(name -> skipValue());
+            case '[' -> parseArray(this::skipValue);
+            case '"' -> StringLiteral.skip(source);
+            case 'n' -> parseNull();
+            case 't', 'f' -> parseBoolean();
+            default -> parseNumber();
+        }
+        source.skipWhitespace();
+    }
+
     @SuppressWarnings("SameReturnValue")
     private JsonValue parseNull() {
-        final String candidate = source.peekUntil(Parser::isLimitChar);
-        if (NULL.matcher(candidate).matches()) {
-            source.skip(candidate.length());
+        if (source.skipWord("null", Parser::isLimitChar)) {
             return JsonValue.NULL;
         }
         throw new IllegalArgumentException(
-                "expected null - but was %s".formatted(candidate));
+                "expected null - but was %s".formatted(source.peekUntil(Parser::isLimitChar)));
     }
 
     private JsonBoolean parseBoolean() {
-        final String candidate = source.peekUntil(Parser::isLimitChar);
-        if (BOOLEAN.matcher(candidate).matches()) {
-            source.skip(candidate.length());
-            return new JsonBoolean("true".equals(candidate));
+        if (source.skipWord("true", Parser::isLimitChar)) {
+            return new JsonBoolean(true);
         }
-        throw new IllegalArgumentException("expected one of {true, false} - but was %s".formatted(candidate));
+        if (source.skipWord("false", Parser::isLimitChar)) {
+            return new JsonBoolean(false);
+        }
+        throw new IllegalArgumentException(
+                "expected one of {true, false} - but was %s".formatted(source.peekUntil(Parser::isLimitChar)));
     }
 
     private JsonNumber parseNumber() {
-        final String candidate = source.peekUntil(Parser::isLimitChar);
-        if (NUMBER.matcher(candidate).matches()) {
-            final BigDecimal number = new BigDecimal(candidate);
-            source.skip(candidate.length());
-            return new JsonNumber(number);
+        source.mark();
+        if (skipNumber() && source.isDelimited(Parser::isLimitChar)) {
+            return source.marked(JsonNumber::parse);
+        }
+        throw notANumber();
+    }
+
+    private IllegalArgumentException notANumber() {
+        source.reset();
+        return new IllegalArgumentException(
+                "expected Json number - but was %s".formatted(source.peekUntil(Parser::isLimitChar)));
+    }
+
+    /**
+     * Scans the next number. The result is only valid until the underlying {@link Source} is read any further.
+     */
+    private JsonNumber.Decimal scanNumber() {
+        source.mark();
+        if (skipNumber() && source.isDelimited(Parser::isLimitChar)) {
+            return source.marked(decimal::scan);
+        }
+        throw notANumber();
+    }
+
+    /**
+     * Parses the next JSON value, which must be a number, including subsequent whitespace, and returns its exact
+     * {@code long} value without building a {@link JsonNumber}.
+     *
+     * @throws IllegalArgumentException if the next value is not a number.
+     * @throws ArithmeticException      if the number has a nonzero fractional part or is out of range.
+     * @see JsonNumber#longValueExact()
+     */
+    final long parseLong() {
+        final long result = scanNumber().longValueExact();
+        source.skipWhitespace();
+        return result;
+    }
+
+    /**
+     * Parses the next JSON value, which must be a number, including subsequent whitespace, and returns its
+     * {@code double} value without building a {@link JsonNumber}.
+     *
+     * @throws IllegalArgumentException if the next value is not a number.
+     * @see JsonNumber#doubleValue()
+     */
+    final double parseDouble() {
+        final double result = scanNumber().doubleValue();
+        source.skipWhitespace();
+        return result;
+    }
+
+    /**
+     * Parses the next JSON value, which must be a number, including subsequent whitespace, and returns its
+     * {@code float} value without building a {@link JsonNumber}.
+     *
+     * @throws IllegalArgumentException if the next value is not a number.
+     * @see JsonNumber#floatValue()
+     */
+    final float parseFloat() {
+        final float result = scanNumber().floatValue();
+        source.skipWhitespace();
+        return result;
+    }
+
+    /**
+     * Skips the characters of a number that complies with the JSON number syntax:
+     * {@code -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?}
+     *
+     * @return {@code true} if the skipped characters are a complete JSON number.
+     */
+    private boolean skipNumber() {
+        source.skipIf('-');
+        if (!source.skipIf('0') && (0 == source.skipWhile(Parser::isDigit))) {
+            return false;
+        }
+        if (source.skipIf('.') && (0 == source.skipWhile(Parser::isDigit))) {
+            return false;
+        }
+        if (source.skipIf(Parser::isExponent)) {
+            source.skipIf(Parser::isSign);
+            return 0 < source.skipWhile(Parser::isDigit);
         }
-        throw new IllegalArgumentException("expected Json number - but was %s".formatted(candidate));
+        return true;
     }
 }
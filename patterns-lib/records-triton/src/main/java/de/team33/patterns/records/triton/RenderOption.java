@@ -24,5 +24,53 @@ public enum RenderOption {
      * <p>
      * By default, JSON arrays ar rendered in a single line.
      */
-    FORMAT_ARRAY
+    FORMAT_ARRAY,
+
+    /**
+     * Causes multi-line formats to be indented by two spaces per level.
+     * <p>
+     * By default, multi-line formats are indented by three spaces per level.
+     * If more than one indentation option is given, the one declared first takes precedence.
+     */
+    INDENT_TWO,
+
+    /**
+     * Causes multi-line formats to be indented by four spaces per level.
+     *
+     * @see #INDENT_TWO
+     */
+    INDENT_FOUR,
+
+    /**
+     * Causes multi-line formats to be indented by one tab character per level.
+     *
+     * @see #INDENT_TWO
+     */
+    INDENT_TAB,
+
+    /**
+     * Causes {@link java.time.Instant Instants} to be rendered as JSON numbers of milliseconds since the epoch,
+     * dropping any finer precision.
+     * <p>
+     * By default, {@link java.time.Instant Instants} are rendered as ISO-8601 strings.
+     * Either representation is accepted when parsing.
+     */
+    INSTANT_AS_EPOCH_MILLIS,
+
+    /**
+     * Causes a canonical rendering, which is deterministic and suitable for hashing or comparing the results:
+     * <ul>
+     *     <li>a single line without any optional whitespace,</li>
+     *     <li>the entries of {@link java.util.Map Maps} ordered by their keys and</li>
+     *     <li>numbers in a unique form, regardless of their Java type: integral values of up to 21 digits
+     *     without a fraction or exponent (e.g. {@code 1} for {@code 1.0}), other values without trailing zeros
+     *     as given by {@link java.math.BigDecimal#toString()} (e.g. {@code 1E+22} or {@code 1.5E-7}). A
+     *     {@code float} is regarded as the value of its shortest decimal representation.</li>
+     * </ul>
+     * Record components are rendered in their order of declaration and the elements of collections in their
+     * order of iteration, as usual.
+     * <p>
+     * Overrides {@link #INLINE_OBJECT}, {@link #FORMAT_ARRAY} and the indentation options.
+     */
+    CANONICAL
 }
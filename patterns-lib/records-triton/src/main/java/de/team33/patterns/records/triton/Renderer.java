@@ -2,65 +2,236 @@ package de.team33.patterns.records.triton;
 
 import de.team33.patterns.enums.pan.Values;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
 
 import static de.team33.patterns.records.triton.RenderOption.*;
-import static java.util.stream.Collectors.joining;
 
 final class Renderer {
 
     private static final String NEWLINE = "%n".formatted();
+    private static final int MAX_BUFFER_CAPACITY = 1 << 16;
+    private static final ThreadLocal<Renderer> POOL = new ThreadLocal<>();
+
+    private final StringBuilder buffer = new StringBuilder();
+    private final Separation inlineSeparation = new InlineSeparation();
+    private final Separation formattedSeparation = new FormattedSeparation();
+
+    private Appendable target;
+    private Format format;
+    private boolean skipNull;
+    private boolean epochMillis;
+    private boolean canonical;
+    private Indentation indentation;
+    private Separation arrSeparation;
+    private Separation objSeparation;
+
+    private Renderer() {
+    }
+
+    /**
+     * Returns a {@link Renderer} that is confined to the current thread until it is {@linkplain #release(Renderer)
+     * released}. Its buffer is retained between calls.
+     */
+    private static Renderer acquire() {
+        final Renderer pooled = POOL.get();
+        // A nested rendering on the same thread (if any) must not share the renderer ...
+        POOL.remove();
+        return (null == pooled) ? new Renderer() : pooled;
+    }
+
+    private static void release(final Renderer renderer) {
+        renderer.target = null;
+        if (MAX_BUFFER_CAPACITY >= renderer.buffer.capacity()) {
+            renderer.buffer.setLength(0);
+            POOL.set(renderer);
+        }
+    }
+
+    private Renderer reset(final Appendable target, final Format format) {
+        this.target = target;
+        this.format = format;
+        this.skipNull = format.skipNull;
+        this.epochMillis = format.epochMillis;
+        this.canonical = format.canonical;
+        this.indentation = format.indentation;
+        this.objSeparation = format.inlineObject ? inlineSeparation : formattedSeparation;
+        this.arrSeparation = format.formatArray ? formattedSeparation : inlineSeparation;
+        return this;
+    }
+
+    /**
+     * Returns the JSON representation of the given <em>source</em>, which may be either a {@link JsonValue} or
+     * any object that can be {@linkplain Generalizer#map(Object) generalized}.
+     */
+    static String render(final Object source, final Set<RenderOption> options) {
+        return render(source, Format.of(options));
+    }
+
+    /**
+     * Returns the JSON representation of the given <em>source</em>, which may be either a {@link JsonValue} or
+     * any object that can be {@linkplain Generalizer#map(Object) generalized}.
+     * <p>
+     * The representation is built in a buffer that is confined to the current thread and reused by subsequent
+     * calls, so only the resulting {@link String} is allocated anew.
+     */
+    static String render(final Object source, final Format format) {
+        final Renderer renderer = acquire();
+        try {
+            return renderer.reset(renderer.buffer, format)
+                           .add(source, 0)
+                           .buffer.toString();
+        } finally {
+            release(renderer);
+        }
+    }
+
+    /**
+     * Appends the JSON representation of the given <em>source</em>, which may be either a {@link JsonValue} or
+     * any object that can be {@linkplain Generalizer#map(Object) generalized}, to the given <em>target</em>.
+     * <p>
+     * Records and arrays are rendered incrementally, component by component or element by element.
+     * An {@link IOException} caused by the <em>target</em> is wrapped in an {@link UncheckedIOException}.
+     */
+    static void render(final Object source, final Set<RenderOption> options, final Appendable target) {
+        render(source, Format.of(options), target);
+    }
 
-    private final StringBuilder target;
-    private final Predicate<JsonObject.Entry> entryFilter;
-    private final Separation arrSeparation;
-    private final Separation objSeparation;
+    /**
+     * Appends the JSON representation of the given <em>source</em> to the given <em>target</em>.
+     *
+     * @see #render(Object, Set, Appendable)
+     */
+    static void render(final Object source, final Format format, final Appendable target) {
+        final Renderer renderer = acquire();
+        try {
+            renderer.reset(target, format)
+                    .add(source, 0);
+        } finally {
+            release(renderer);
+        }
+    }
+
+    /**
+     * Returns the JSON representation of the given <em>source</em> record, whose type is described by the given
+     * <em>reflector</em>.
+     *
+     * @see #render(Object, Format)
+     */
+    static String render(final Record source, final Triton.Reflector<?> reflector, final Format format) {
+        final Renderer renderer = acquire();
+        try {
+            return renderer.reset(renderer.buffer, format)
+                           .addRoot(source, reflector)
+                           .buffer.toString();
+        } finally {
+            release(renderer);
+        }
+    }
 
-    private Renderer(final Set<RenderOption> options) {
-        this.target = new StringBuilder();
-        this.entryFilter = options.contains(SKIP_NULL) ? entry -> JsonValue.NULL != entry.value()
-                                                       : entry -> true;
-        this.objSeparation = options.contains(INLINE_OBJECT) ? new InlineSeparation()
-                                                             : new FormattedSeparation();
-        this.arrSeparation = options.contains(FORMAT_ARRAY) ? new FormattedSeparation()
-                                                            : new InlineSeparation();
+    /**
+     * Appends the JSON representation of the given <em>source</em> record, whose type is described by the given
+     * <em>reflector</em>, to the given <em>target</em>.
+     *
+     * @see #render(Object, Set, Appendable)
+     */
+    static void render(final Record source,
+                       final Triton.Reflector<?> reflector,
+                       final Format format,
+                       final Appendable target) {
+        final Renderer renderer = acquire();
+        try {
+            renderer.reset(target, format)
+                    .addRoot(source, reflector);
+        } finally {
+            release(renderer);
+        }
     }
 
-    static String render(final JsonValue source, final Set<RenderOption> options) {
-        return new Renderer(options).add(source, 0)
-                                    .toString();
+    private static boolean isNull(final Object value) {
+        return (null == value) || (JsonValue.NULL == value) ||
+               ((value instanceof final Optional<?> optional) && optional.isEmpty());
     }
 
     private Renderer add(final String source) {
-        target.append(source);
+        try {
+            target.append(source);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
         return this;
     }
 
-    private Renderer addNewLine(final int indentation) {
-        return add(NEWLINE).addSpace(indentation);
+    private Renderer add(final long value) {
+        if (target instanceof final StringBuilder builder) {
+            // avoids an intermediate String ...
+            builder.append(value);
+            return this;
+        }
+        return add(Long.toString(value));
     }
 
-    private Renderer addSpace(final int indentation) {
-        return add(Stream.generate(() -> "   ")
-                         .limit(indentation)
-                         .collect(joining()));
+    private Renderer add(final double value) {
+        if (canonical) {
+            return add(JsonNumber.canonical(JsonNumber.requireFinite(value)));
+        }
+        if (target instanceof final StringBuilder builder) {
+            // avoids an intermediate String ...
+            builder.append(JsonNumber.requireFinite(value));
+            return this;
+        }
+        return add(Double.toString(JsonNumber.requireFinite(value)));
     }
 
-    private Renderer add(final JsonValue source, final int indentation) {
-        if (JsonValue.NULL == source) {
-            return add("null");
-        } else {
-            final JsonType type = JsonType.of(source.getClass());
-            return type.render(this, source, indentation);
+    private Renderer addLiteral(final String source) {
+        try {
+            StringLiteral.render(source, target);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
         }
+        return this;
     }
 
-    @Override
-    public final String toString() {
-        return target.toString();
+    private Renderer addNewLine(final int indentation) {
+        return add(this.indentation.newLine(indentation));
+    }
+
+    private Renderer add(final Object source, final int indentation) {
+        if (isNull(source)) {
+            return add("null");
+        } else if (source instanceof final JsonValue value) {
+            final JsonType type = JsonType.of(value.getClass());
+            return type.render(this, value, indentation);
+        } else if (source instanceof final Record record) {
+            return addRecord(record, indentation);
+        } else if (source.getClass().isArray()) {
+            return source.getClass().componentType().isPrimitive()
+                   ? addPrimitives(source, indentation)
+                   : addArray(Array.getLength(source), index -> Array.get(source, index), indentation);
+        } else if (source instanceof final Collection<?> collection) {
+            // the elements are requested strictly in order, so they can be taken from an iterator ...
+            final Iterator<?> iterator = collection.iterator();
+            return addArray(collection.size(), index -> iterator.next(), indentation);
+        } else if (source instanceof final Map<?, ?> map) {
+            return addMap(map, indentation);
+        } else if (source instanceof final Optional<?> optional) {
+            return add(optional.get(), indentation);
+        } else if (epochMillis && (source instanceof final Instant instant)) {
+            return add(instant.toEpochMilli());
+        } else {
+            return add(Generalizer.map(source), indentation);
+        }
     }
 
     private Renderer addObject(final JsonObject source, final int indentation) {
@@ -68,16 +239,114 @@ final class Renderer {
     }
 
     private Renderer addObjectBody(final JsonObject source, final int indentation) {
-        final List<JsonObject.Entry> entries = source.stream()
-                                                     .filter(entryFilter)
-                                                     .toList();
-        final int size = entries.size();
-        if (0 < size) {
-            for (int index = 0; index < size; index++) {
-                final JsonObject.Entry entry = entries.get(index);
-                objSeparation.addSeparator(index, indentation);
-                add(StringLiteral.render(entry.name())).add(" : ").add(entry.value(), indentation);
+        int count = 0;
+        for (final JsonObject.Entry entry : source) {
+            final JsonValue value = entry.value();
+            if (!skipNull || !isNull(value)) {
+                addMemberName(count++, entry.name(), indentation).add(value, indentation);
+            }
+        }
+        return addObjectEnd(count, indentation);
+    }
+
+    private Renderer addMap(final Map<?, ?> source, final int indentation) {
+        return add("{").addMapBody(source, objSeparation.next(indentation)).add("}");
+    }
+
+    private Renderer addMapBody(final Map<?, ?> source, final int indentation) {
+        int count = 0;
+        for (final Map.Entry<?, ?> entry : (canonical ? sorted(source) : source).entrySet()) {
+            final Object value = entry.getValue();
+            if (!skipNull || !isNull(value)) {
+                addMemberName(count++, Util.memberName(entry.getKey()), indentation).add(value, indentation);
+            }
+        }
+        return addObjectEnd(count, indentation);
+    }
+
+    private static Map<String, ?> sorted(final Map<?, ?> source) {
+        final Map<String, Object> result = new TreeMap<>();
+        for (final Map.Entry<?, ?> entry : source.entrySet()) {
+            result.put(Util.memberName(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    private Renderer addRoot(final Record source, final Triton.Reflector<?> reflector) {
+        return (null == source) ? add("null") : addRecord(source, reflector, 0);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Renderer addRecord(final Record source, final int indentation) {
+        return addRecord(source, Triton.reflector((Class) source.getClass()), indentation);
+    }
+
+    private Renderer addRecord(final Record source, final Triton.Reflector<?> reflector, final int indentation) {
+        final Fragments fragments = format.singleLine ? reflector.fragments() : null;
+        if (null == fragments) {
+            return addRecordPlain(source, reflector, indentation);
+        }
+        final String cached = fragments.get(format, source);
+        if (null != cached) {
+            return add(cached);
+        }
+        final Appendable outer = target;
+        final StringBuilder fragment = new StringBuilder();
+        target = fragment;
+        try {
+            addRecordPlain(source, reflector, indentation);
+        } finally {
+            target = outer;
+        }
+        return add(fragments.put(format, source, fragment.toString()));
+    }
+
+    private Renderer addRecordPlain(final Record source,
+                                    final Triton.Reflector<?> reflector,
+                                    final int indentation) {
+        return add("{").addRecordBody(reflector, source, objSeparation.next(indentation)).add("}");
+    }
+
+    private Renderer addRecordBody(final Triton.Reflector<?> reflector, final Record source, final int indentation) {
+        final int size = reflector.size();
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            if (reflector.isIntegral(index)) {
+                final long value = reflector.getLong(source, index);
+                addMemberName(count++, reflector.name(index), indentation).add(value);
+            } else {
+                final Object value = component(reflector, source, index);
+                if (!skipNull || !isNull(value)) {
+                    addMemberName(count++, reflector.name(index), indentation);
+                    // a record type is final, so its reflector is known in advance ...
+                    final Triton.Reflector<?> nested = reflector.nested(index);
+                    if ((null == nested) || (null == value)) {
+                        add(value, indentation);
+                    } else {
+                        addRecord((Record) value, nested, indentation);
+                    }
+                }
             }
+        }
+        return addObjectEnd(count, indentation);
+    }
+
+    private Object component(final Triton.Reflector<?> reflector, final Record source, final int index) {
+        final Object value = reflector.get(source, index);
+        final Generalizer encoder = reflector.encoder(index);
+        // an Instant must not be generalized if it is to be rendered as a number ...
+        return ((null == value) || (null == encoder) || (epochMillis && (value instanceof Instant)))
+               ? value
+               : encoder.apply(value);
+    }
+
+    private Renderer addMemberName(final int count, final String name, final int indentation) {
+        objSeparation.addSeparator(count, indentation);
+        return addLiteral(name).add(format.colon);
+    }
+
+    private Renderer addObjectEnd(final int count, final int indentation) {
+        if (0 < count) {
             return objSeparation.addSeparator(0, objSeparation.prev(indentation));
         } else {
             return this;
@@ -85,15 +354,18 @@ final class Renderer {
     }
 
     private Renderer addArray(final JsonArray source, final int indentation) {
-        return add("[").addArrayBody(source, arrSeparation.next(indentation)).add("]");
+        return addArray(source.size(), source::get, indentation);
+    }
+
+    private Renderer addArray(final int size, final IntFunction<Object> values, final int indentation) {
+        return add("[").addArrayBody(size, values, arrSeparation.next(indentation)).add("]");
     }
 
-    private Renderer addArrayBody(final JsonArray source, final int indentation) {
-        final int size = source.size();
+    private Renderer addArrayBody(final int size, final IntFunction<Object> values, final int indentation) {
         if (0 < size) {
-            for (int index = 0; index < source.size(); ++index) {
+            for (int index = 0; index < size; ++index) {
                 arrSeparation.addSeparator(index, indentation);
-                add(source.get(index), indentation);
+                add(values.apply(index), indentation);
             }
             return arrSeparation.addSeparator(0, arrSeparation.prev(indentation));
         } else {
@@ -101,9 +373,73 @@ final class Renderer {
         }
     }
 
+    /**
+     * Renders an array of primitives in a dedicated loop per component type, without boxing the elements and
+     * without {@linkplain Generalizer generalizing} them one by one.
+     */
+    private Renderer addPrimitives(final Object array, final int indentation) {
+        final int inner = arrSeparation.next(indentation);
+        add("[");
+        final int length;
+        if (array instanceof final int[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(values[index]);
+            }
+        } else if (array instanceof final long[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(values[index]);
+            }
+        } else if (array instanceof final double[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(values[index]);
+            }
+        } else if (array instanceof final float[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(JsonNumber.widened(values[index]));
+            }
+        } else if (array instanceof final short[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(values[index]);
+            }
+        } else if (array instanceof final byte[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(values[index]);
+            }
+        } else if (array instanceof final boolean[] values) {
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                add(Boolean.toString(values[index]));
+            }
+        } else {
+            final char[] values = (char[]) array;
+            length = values.length;
+            for (int index = 0; index < length; ++index) {
+                arrSeparation.addSeparator(index, inner);
+                addLiteral(String.valueOf(values[index]));
+            }
+        }
+        if (0 < length) {
+            arrSeparation.addSeparator(0, arrSeparation.prev(inner));
+        }
+        return add("]");
+    }
+
     private Renderer addInlineSeparator(final int index) {
         if (0 < index) {
-            add(", ");
+            add(format.comma);
         }
         return this;
     }
@@ -116,17 +452,129 @@ final class Renderer {
     }
 
     private Renderer addString(final JsonString source, final int indentation) {
-        return add(StringLiteral.render(source.value()));
+        return addLiteral(source.value());
     }
 
     private Renderer addNumber(final JsonNumber source, final int indentation) {
-        return add(source.value().toString());
+        return add(canonical ? source.canonical() : source.literal());
     }
 
     private Renderer addBoolean(final JsonBoolean source, final int indentation) {
         return add(Boolean.toString(source.value()));
     }
 
+    /**
+     * The rendering settings resulting from a combination of {@linkplain RenderOption render options}.
+     * <p>
+     * There is exactly one instance per combination, determined in advance, so that looking up the format for
+     * given options neither allocates nor evaluates the options more than once.
+     */
+    static final class Format {
+
+        private static final RenderOption[] OPTIONS = RenderOption.values();
+        private static final Format[] FORMATS = newFormats();
+        private static final int LINE_MASK =
+                (1 << SKIP_NULL.ordinal()) | (1 << INSTANT_AS_EPOCH_MILLIS.ordinal()) | (1 << CANONICAL.ordinal());
+
+        private final int mask;
+        private final boolean skipNull;
+        private final boolean epochMillis;
+        private final boolean canonical;
+        private final boolean inlineObject;
+        private final boolean formatArray;
+        private final boolean singleLine;
+        private final String comma;
+        private final String colon;
+        private final Indentation indentation;
+
+        private Format(final int mask, final Set<RenderOption> options) {
+            this.mask = mask;
+            this.skipNull = options.contains(SKIP_NULL);
+            this.epochMillis = options.contains(INSTANT_AS_EPOCH_MILLIS);
+            this.canonical = options.contains(CANONICAL);
+            this.inlineObject = canonical || options.contains(INLINE_OBJECT);
+            this.formatArray = !canonical && options.contains(FORMAT_ARRAY);
+            this.singleLine = inlineObject && !formatArray;
+            this.comma = canonical ? "," : ", ";
+            this.colon = canonical ? ":" : " : ";
+            this.indentation = Indentation.of(options);
+        }
+
+        private static Format[] newFormats() {
+            final Format[] result = new Format[1 << OPTIONS.length];
+            for (int mask = 0; mask < result.length; ++mask) {
+                final Set<RenderOption> options = EnumSet.noneOf(RenderOption.class);
+                for (final RenderOption option : OPTIONS) {
+                    if (0 != (mask & (1 << option.ordinal()))) {
+                        options.add(option);
+                    }
+                }
+                result[mask] = new Format(mask, options);
+            }
+            return result;
+        }
+
+        static Format of(final RenderOption... options) {
+            int mask = 0;
+            for (final RenderOption option : options) {
+                mask |= (1 << option.ordinal());
+            }
+            return FORMATS[mask];
+        }
+
+        static Format of(final Set<RenderOption> options) {
+            int mask = 0;
+            for (final RenderOption option : options) {
+                mask |= (1 << option.ordinal());
+            }
+            return FORMATS[mask];
+        }
+
+        /**
+         * Returns the {@link Format} that renders any value in a single line, keeping {@link RenderOption#SKIP_NULL},
+         * {@link RenderOption#INSTANT_AS_EPOCH_MILLIS} and {@link RenderOption#CANONICAL} from <em>this</em> format.
+         */
+        final Format singleLine() {
+            return FORMATS[(mask & LINE_MASK) | (1 << INLINE_OBJECT.ordinal())];
+        }
+    }
+
+    /**
+     * A cache of the rendered JSON fragments of the instances of a record type that has been designated as deeply
+     * immutable, separately for each single-line {@link Format}. Instances are looked up by value, i.e. by
+     * {@link Record#equals(Object)}. Once the cache has reached its capacity, no more fragments are added.
+     *
+     * @see Triton#cacheFragments(Class, int)
+     */
+    static final class Fragments {
+
+        private final int capacity;
+        private final Map<Format, Map<Record, String>> byFormat = new ConcurrentHashMap<>();
+
+        Fragments(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        private Map<Record, String> fragments(final Format format) {
+            return byFormat.computeIfAbsent(format, any -> new ConcurrentHashMap<>());
+        }
+
+        final String get(final Format format, final Record source) {
+            return fragments(format).get(source);
+        }
+
+        /**
+         * Caches the given <em>fragment</em>, if there is capacity left, and returns it.
+         */
+        final String put(final Format format, final Record source, final String fragment) {
+            final Map<Record, String> fragments = fragments(format);
+            if (fragments.size() < capacity) {
+                fragments.putIfAbsent(source, fragment);
+            }
+            return fragment;
+        }
+    }
+
     private enum JsonType {
 
         BOOLEAN(JsonBoolean.class, Renderer::addBoolean),
@@ -136,6 +584,7 @@ final class Renderer {
         OBJECT(JsonObject.class, Renderer::addObject);
 
         private static final Values<JsonType> VALUES = Values.of(JsonType.class);
+        private static final Map<Class<?>, JsonType> CACHE = new ConcurrentHashMap<>();
 
         private final Class<? extends JsonValue> jsonType;
         @SuppressWarnings("rawtypes")
@@ -147,6 +596,10 @@ final class Renderer {
         }
 
         static JsonType of(final Class<? extends JsonValue> sourceType) {
+            return CACHE.computeIfAbsent(sourceType, JsonType::lookup);
+        }
+
+        private static JsonType lookup(final Class<?> sourceType) {
             return VALUES.findAny(value -> value.jsonType.isAssignableFrom(sourceType))
                          .orElseThrow(() -> new IllegalStateException(
                                  // Difficult to test (should not happen at all) ...
@@ -158,6 +611,42 @@ final class Renderer {
         }
     }
 
+    private enum Indentation {
+
+        TWO(INDENT_TWO, "  "),
+        FOUR(INDENT_FOUR, "    "),
+        TAB(INDENT_TAB, "\t"),
+        DEFAULT(null, "   ");
+
+        private static final Values<Indentation> VALUES = Values.of(Indentation.class);
+        private static final int TABLE_SIZE = 32;
+
+        private final RenderOption option;
+        private final String unit;
+        private final String[] newLines;
+
+        Indentation(final RenderOption option, final String unit) {
+            this.option = option;
+            this.unit = unit;
+            this.newLines = new String[TABLE_SIZE];
+            for (int depth = 0; depth < TABLE_SIZE; ++depth) {
+                newLines[depth] = NEWLINE + unit.repeat(depth);
+            }
+        }
+
+        static Indentation of(final Set<RenderOption> options) {
+            return VALUES.findAny(value -> (null != value.option) && options.contains(value.option))
+                         .orElse(DEFAULT);
+        }
+
+        /**
+         * Returns a line break followed by the indentation for the given <em>depth</em>.
+         */
+        final String newLine(final int depth) {
+            return (depth < TABLE_SIZE) ? newLines[depth] : (NEWLINE + unit.repeat(depth));
+        }
+    }
+
     @FunctionalInterface
     private interface Rendering<T extends JsonValue> {
 
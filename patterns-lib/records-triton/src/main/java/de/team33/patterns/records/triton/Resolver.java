@@ -3,50 +3,208 @@ package de.team33.patterns.records.triton;
 import de.team33.patterns.enums.pan.Values;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @SuppressWarnings("MethodMayBeStatic")
 final class Resolver {
 
+    private static final Map<Type, Resolver> CACHE = new ConcurrentHashMap<>();
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Type genericType;
     private final Class<?> targetType;
     private final Mapping mapping;
+    private final Map<String, ?> constants;
+    private Resolver elements;
+
+    private Resolver(final Type genericType) {
+        this.genericType = genericType;
+        this.targetType = Types.rawClass(genericType);
+        this.mapping = mapping(genericType, targetType);
+        this.constants = targetType.isEnum() ? constants(targetType) : Map.of();
+    }
 
-    private Resolver(final Class<?> targetType) {
-        this.targetType = targetType;
-        this.mapping = Mapping.of(targetType);
-        if (null == mapping) {
-            throw new IllegalArgumentException("cannot resolve " + targetType.getCanonicalName());
+    private static Mapping mapping(final Type genericType, final Class<?> targetType) {
+        final Mapping result = Mapping.of(targetType);
+        // only maps with String keys can be represented as JSON objects ...
+        return ((Mapping.MAP == result) && (String.class != Types.argument(genericType, 0))) ? null : result;
+    }
+
+    private static Map<String, ?> constants(final Class<?> enumType) {
+        return Stream.of(enumType.getEnumConstants())
+                     .map(constant -> (Enum<?>) constant)
+                     .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+    }
+
+    /**
+     * Returns the (cached) {@link Resolver} for the given <em>targetType</em>, which may be a generic type like
+     * {@code List<String>}.
+     * <p>
+     * The result is also available for an unsupported <em>targetType</em>, but will fail when
+     * {@linkplain #apply(JsonValue) applied}.
+     */
+    static Resolver of(final Type targetType) {
+        return CACHE.computeIfAbsent(Types.normal(targetType), Resolver::new);
+    }
+
+    static Object resolve(final Type targetType, final JsonValue value) {
+        return of(targetType).apply(value);
+    }
+
+    /**
+     * Returns the raw target type.
+     */
+    final Class<?> targetType() {
+        return targetType;
+    }
+
+    /**
+     * Determines if the target type is an array, a {@link List}, a {@link Collection} or a {@link Set}.
+     */
+    final boolean isSequence() {
+        return (Mapping.ARRAY == mapping) || (Mapping.LIST == mapping) || (Mapping.SET == mapping);
+    }
+
+    /**
+     * Determines if the target type is a {@link Map} with {@link String} keys.
+     */
+    final boolean isMap() {
+        return Mapping.MAP == mapping;
+    }
+
+    /**
+     * Determines if the target type is {@link Optional}.
+     */
+    final boolean isOptional() {
+        return Mapping.OPTIONAL == mapping;
+    }
+
+    /**
+     * Returns the {@link Resolver} for the elements of a {@linkplain #isSequence() sequence}, the values of a
+     * {@linkplain #isMap() map} or the content of an {@linkplain #isOptional() optional}.
+     */
+    final Resolver elements() {
+        // not determined in advance, since the cache must not be updated while a new resolver is being created ...
+        Resolver result = elements;
+        if (null == result) {
+            result = of(isSequence()
+                        ? (targetType.isArray() ? Types.componentType(genericType) : Types.argument(genericType, 0))
+                        : Types.argument(genericType, isMap() ? 1 : 0));
+            elements = result;
         }
+        return result;
     }
 
-    static Object resolve(final Class<?> targetClass, final JsonValue value) {
-        return new Resolver(targetClass).apply(value);
+    /**
+     * Returns a {@linkplain #isSequence() sequence} of the target type containing the already resolved
+     * <em>values</em> from index <em>from</em> (inclusive) to <em>to</em> (exclusive): an array, an unmodifiable
+     * {@link List} or an unmodifiable {@link Set} that keeps the order of the <em>values</em>.
+     * <p>
+     * The result never refers to the given array, so the caller may reuse it.
+     */
+    final Object sequence(final Object[] values, final int from, final int to) {
+        if (Mapping.ARRAY == mapping) {
+            return array(values, from, to);
+        } else if (Mapping.SET == mapping) {
+            final Set<Object> result = new LinkedHashSet<>(capacity(to - from));
+            result.addAll(Arrays.asList(values).subList(from, to));
+            return Collections.unmodifiableSet(result);
+        } else {
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(values, from, to)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object array(final Object[] values, final int from, final int to) {
+        final Class<?> componentType = targetType.componentType();
+        if (boolean.class == componentType) {
+            final boolean[] result = new boolean[to - from];
+            for (int index = from; index < to; ++index) {
+                result[index - from] = (Boolean) values[index];
+            }
+            return result;
+        } else if (char.class == componentType) {
+            final char[] result = new char[to - from];
+            for (int index = from; index < to; ++index) {
+                result[index - from] = (Character) values[index];
+            }
+            return result;
+        } else if (componentType.isPrimitive()) {
+            // arrays of primitive numbers are usually bound without boxing, see mapPrimitives() ...
+            final Object result = Array.newInstance(componentType, to - from);
+            for (int index = from; index < to; ++index) {
+                Array.set(result, index - from, values[index]);
+            }
+            return result;
+        } else {
+            return Arrays.copyOfRange(values, from, to, (Class<? extends Object[]>) targetType);
+        }
+    }
+
+    /**
+     * Returns a {@linkplain #isSequence() sequence} of the target type containing all of the already resolved
+     * <em>values</em>, like {@link #sequence(Object[], int, int)}.
+     * <p>
+     * A {@link List} adopts the given array, so the caller must not modify it afterwards.
+     */
+    final Object adopt(final Object[] values) {
+        return (Mapping.LIST == mapping)
+               ? Collections.unmodifiableList(Arrays.asList(values))
+               : sequence(values, 0, values.length);
     }
 
-    private Object apply(final JsonValue value) {
-        if (JsonValue.NULL == value) {
+    /**
+     * Returns an unmodifiable {@link Map} containing the already resolved <em>values</em> from index <em>from</em>
+     * (inclusive) to <em>to</em> (exclusive), which are expected as alternating {@link String} keys and values.
+     * The result keeps the order of the entries.
+     */
+    final Map<String, Object> map(final Object[] values, final int from, final int to) {
+        final Map<String, Object> result = new LinkedHashMap<>(capacity((to - from) / 2));
+        for (int index = from; index < to; index += 2) {
+            result.put((String) values[index], values[index + 1]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static int capacity(final int size) {
+        return (int) Math.ceil(size / LOAD_FACTOR);
+    }
+
+    final Object apply(final JsonValue value) {
+        if (null == mapping) {
+            throw new IllegalArgumentException("cannot resolve " + genericType.getTypeName());
+        } else if (JsonValue.NULL == value) {
             return mapNull();
         } else if (mapping.isApplicable(value)) {
-            return mapping.method(this)
-                          .apply(value);
+            return mapping.method.map(this, value);
         }
         throw new IllegalArgumentException(
-                "illegal Json type: %s - expected: %s".formatted(value.getClass(), mapping.jsonClass));
+                "illegal Json type: %s - expected: %s".formatted(JsonValue.typeOf(value), mapping.jsonClass));
     }
 
-    @SuppressWarnings({"ReturnOfNull", "SameReturnValue"})
+    @SuppressWarnings("ReturnOfNull")
     private Object mapNull() {
         if (targetType.isPrimitive()) {
             throw new IllegalArgumentException("not nullable: " + targetType.getCanonicalName());
         }
-        return null;
+        return isOptional() ? Optional.empty() : null;
     }
 
     private boolean mapBoolean(final JsonBoolean source) {
@@ -54,27 +212,27 @@ final class Resolver {
     }
 
     private byte mapByte(final JsonNumber source) {
-        return source.value().byteValueExact();
+        return source.byteValueExact();
     }
 
     private short mapShort(final JsonNumber source) {
-        return source.value().shortValueExact();
+        return source.shortValueExact();
     }
 
     private int mapInt(final JsonNumber source) {
-        return source.value().intValueExact();
+        return source.intValueExact();
     }
 
     private long mapLong(final JsonNumber source) {
-        return source.value().longValueExact();
+        return source.longValueExact();
     }
 
     private float mapFloat(final JsonNumber source) {
-        return source.value().floatValue();
+        return source.floatValue();
     }
 
     private double mapDouble(final JsonNumber source) {
-        return source.value().doubleValue();
+        return source.doubleValue();
     }
 
     private char mapChar(final JsonString source) {
@@ -86,11 +244,11 @@ final class Resolver {
     }
 
     private BigInteger mapBigInteger(final JsonNumber source) {
-        return source.value().toBigIntegerExact();
+        return source.bigIntegerValueExact();
     }
 
     private BigDecimal mapBigDecimal(final JsonNumber source) {
-        return source.value();
+        return source.bigDecimalValue();
     }
 
     private String mapString(final JsonString source) {
@@ -101,16 +259,27 @@ final class Resolver {
         return Stringable.decode(targetType, source.value());
     }
 
+    private Instant mapInstant(final JsonValue source) {
+        if (source instanceof final JsonNumber number) {
+            return Instant.ofEpochMilli(number.longValueExact());
+        } else if (source instanceof final JsonString string) {
+            return Stringable.decode(Instant.class, string.value());
+        }
+        throw new IllegalArgumentException(
+                "illegal Json type: %s - expected: %s or %s".formatted(JsonValue.typeOf(source), JsonString.class,
+                                                                      JsonNumber.class));
+    }
+
     private Enum<?> mapEnum(final JsonString source) {
         return mapEnum(source.value());
     }
 
     private Enum<?> mapEnum(final String name) {
-        return Stream.of(targetType.getEnumConstants())
-                     .map(Enum.class::cast)
-                     .filter(e -> e.name().equals(name))
-                     .findAny()
-                     .orElseThrow(() -> enumNotFound(name));
+        final Object result = constants.get(name);
+        if (null == result) {
+            throw enumNotFound(name);
+        }
+        return (Enum<?>) result;
     }
 
     private IllegalStateException enumNotFound(final String name) {
@@ -118,8 +287,92 @@ final class Resolver {
                 "Cannot find enum value %s of type %s".formatted(name, targetType.getCanonicalName()));
     }
 
-    private Object mapArray(final JsonArray source) {
-        return new ArrayMapper().map(source);
+    private Object mapSequence(final JsonArray source) {
+        final Class<?> componentType = targetType.componentType();
+        if ((null != componentType) && componentType.isPrimitive()) {
+            return mapPrimitives(componentType, source);
+        }
+        final Resolver resolver = elements();
+        final int size = source.size();
+        final Object[] values = new Object[size];
+        for (int index = 0; index < size; ++index) {
+            values[index] = resolver.apply(source.get(index));
+        }
+        return sequence(values, 0, size);
+    }
+
+    private Object mapPrimitives(final Class<?> componentType, final JsonArray source) {
+        final int size = source.size();
+        if (int.class == componentType) {
+            final int[] result = new int[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).intValueExact();
+            }
+            return result;
+        } else if (long.class == componentType) {
+            final long[] result = new long[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).longValueExact();
+            }
+            return result;
+        } else if (double.class == componentType) {
+            final double[] result = new double[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).doubleValue();
+            }
+            return result;
+        } else if (float.class == componentType) {
+            final float[] result = new float[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).floatValue();
+            }
+            return result;
+        } else if (short.class == componentType) {
+            final short[] result = new short[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).shortValueExact();
+            }
+            return result;
+        } else if (byte.class == componentType) {
+            final byte[] result = new byte[size];
+            for (int index = 0; index < size; ++index) {
+                result[index] = number(source.get(index)).byteValueExact();
+            }
+            return result;
+        } else {
+            // boolean[] or char[] ...
+            final Resolver resolver = elements();
+            final Object[] values = new Object[size];
+            for (int index = 0; index < size; ++index) {
+                values[index] = resolver.apply(source.get(index));
+            }
+            return array(values, 0, size);
+        }
+    }
+
+    private JsonNumber number(final JsonValue value) {
+        if (value instanceof final JsonNumber result) {
+            return result;
+        }
+        throw (JsonValue.NULL == value)
+              ? new IllegalArgumentException("not nullable: " + targetType.componentType().getCanonicalName())
+              : new IllegalArgumentException(
+                      "illegal Json type: %s - expected: %s".formatted(JsonValue.typeOf(value), JsonNumber.class));
+    }
+
+    private Map<String, Object> mapMap(final JsonObject source) {
+        final Resolver resolver = elements();
+        final Object[] values = new Object[2 * source.size()];
+        int index = 0;
+        for (final JsonObject.Entry entry : source) {
+            values[index++] = entry.name();
+            values[index++] = resolver.apply(entry.value());
+        }
+        return map(values, 0, index);
+    }
+
+    private Optional<?> mapOptional(final JsonValue source) {
+        return Optional.ofNullable(elements().apply(source));
     }
 
     private Object mapRecord(final JsonObject source) {
@@ -140,8 +393,13 @@ final class Resolver {
         CHAR(isOneOf(char.class, Character.class), JsonString.class, Resolver::mapChar),
         STRING(String.class::equals, JsonString.class, Resolver::mapString),
         ENUM(Class::isEnum, JsonString.class, Resolver::mapEnum),
-        ARRAY(Class::isArray, JsonArray.class, Resolver::mapArray),
+        ARRAY(Class::isArray, JsonArray.class, Resolver::mapSequence),
+        LIST(isOneOf(List.class, Collection.class), JsonArray.class, Resolver::mapSequence),
+        SET(Set.class::equals, JsonArray.class, Resolver::mapSequence),
+        MAP(Map.class::equals, JsonObject.class, Resolver::mapMap),
+        OPTIONAL(Optional.class::equals, JsonValue.class, Resolver::mapOptional),
         RECORD(Class::isRecord, JsonObject.class, Resolver::mapRecord),
+        INSTANT(Instant.class::equals, JsonValue.class, Resolver::mapInstant),
         STRINGABLE(Stringable::supports, JsonString.class, Resolver::mapStringable);
 
         private static final Values<Mapping> VALUES = Values.of(Mapping.class);
@@ -169,10 +427,6 @@ final class Resolver {
                          .orElse(null);
         }
 
-        final Function<JsonValue, Object> method(final Resolver resolver) {
-            return value -> method.map(resolver, value);
-        }
-
         final boolean isApplicable(final JsonValue value) {
             return jsonClass.isInstance(value);
         }
@@ -189,46 +443,26 @@ final class Resolver {
         }
     }
 
-    private final class ArrayMapper {
-
-        private final Class<?> componentType;
-
-        private ArrayMapper() {
-            componentType = targetType.componentType();
-        }
-
-        final Object map(final JsonArray source) {
-            final Object array = Array.newInstance(componentType, source.size());
-            for (int index = 0; index < source.size(); ++index) {
-                final var component = resolve(componentType, source.get(index));
-                Array.set(array, index, component);
-            }
-            return array;
-        }
-    }
-
     private final class RecordMapper {
 
         @SuppressWarnings("rawtypes")
-        private final Descriptor descriptor;
+        private final Triton.Reflector reflector;
 
         @SuppressWarnings({"rawtypes", "unchecked"})
         private RecordMapper() {
-            this.descriptor = Triton.descriptor((Class) targetType);
+            this.reflector = Triton.reflector((Class) targetType);
         }
 
-        @SuppressWarnings("unchecked")
         final Object map(final JsonObject source) {
-            final Map<String, Object> stage =
-                    source.stream()
-                          .filter(entry -> descriptor.names().contains(entry.name()))
-                          .collect(HashMap::new, this::put, Map::putAll);
-            return Triton.toRecord(descriptor.recordType(), stage);
-        }
-
-        private void put(final Map<? super String, Object> map, final JsonObject.Entry entry) {
-            final String name = entry.name();
-            map.put(name, resolve(descriptor.type(name), entry.value()));
+            final int size = reflector.size();
+            final Object[] args = reflector.newArgs();
+            for (int index = 0; index < size; ++index) {
+                final JsonValue value = source.get(reflector.name(index));
+                if (null != value) {
+                    args[index] = reflector.decoder(index).apply(value);
+                }
+            }
+            return reflector.newInstance(args);
         }
     }
 }
@@ -0,0 +1,275 @@
+package de.team33.patterns.records.triton;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Converts between instances of a particular {@code record} type and their JSON representations using fixed
+ * rendering options.
+ * <p>
+ * The structure of the record type and the rendering options are resolved once, when an instance is
+ * {@linkplain Triton#serializer(Class, RenderOption...) created}. This includes the conversions of all
+ * components and, recursively, the structure of nested record types, also as elements of arrays, collections,
+ * maps and optionals. Thus, a single conversion needs no further type or option lookups, except for component
+ * values whose actual class is not determined by the declared type. Instances are immutable and thread-safe and
+ * are meant to be held and reused, e.g. one per record type within a service.
+ *
+ * @param <T> the record type.
+ * @see Triton#serializer(Class, RenderOption...)
+ * @see de.team33.patterns.records.triton package
+ */
+public final class Serializer<T extends Record> {
+
+    private final Triton.Reflector<T> reflector;
+    private final Renderer.Format format;
+    private final Renderer.Format lineFormat;
+
+    Serializer(final Triton.Reflector<T> reflector, final RenderOption... options) {
+        this.reflector = reflector.resolveAll();
+        this.format = Renderer.Format.of(options);
+        this.lineFormat = format.singleLine();
+    }
+
+    /**
+     * Returns the underlying {@code record} type.
+     */
+    public final Class<T> recordType() {
+        return reflector.recordType();
+    }
+
+    /**
+     * Returns a JSON-formatted {@link String} representation of the given <em>source</em>.
+     *
+     * @see Triton#toJson(Record, RenderOption...)
+     */
+    public final String toJson(final T source) {
+        return Renderer.render(source, reflector, format);
+    }
+
+    /**
+     * Writes a JSON-formatted representation of the given <em>source</em> to the given <em>target</em>.
+     * The <em>target</em> is neither flushed nor closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see Triton#writeJson(Record, Appendable, RenderOption...)
+     */
+    public final void writeJson(final T source, final Appendable target) throws IOException {
+        try {
+            Renderer.render(source, reflector, format, target);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes a UTF-8 encoded, JSON-formatted representation of the given <em>source</em> to the given
+     * <em>target</em>. The <em>target</em> is flushed but not closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see Triton#writeJson(Record, OutputStream, RenderOption...)
+     */
+    public final void writeJson(final T source, final OutputStream target) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        writeJson(source, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes JSON-formatted representations of the given <em>sources</em> to the given <em>target</em>,
+     * one per line. Only {@link RenderOption#SKIP_NULL}, {@link RenderOption#INSTANT_AS_EPOCH_MILLIS} and
+     * {@link RenderOption#CANONICAL} are taken into account from the rendering options.
+     * The <em>target</em> is neither flushed nor closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see Triton#writeJsonLines(Iterable, Appendable, RenderOption...)
+     */
+    public final void writeJsonLines(final Iterable<? extends T> sources, final Appendable target)
+            throws IOException {
+        try {
+            for (final T source : sources) {
+                Renderer.render(source, reflector, lineFormat, target);
+                target.append('\n');
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, parsed from the given <em>json</em> {@link String}.
+     *
+     * @see Triton#toRecord(Class, String)
+     */
+    public final T toRecord(final String json) {
+        return recordType().cast(Binder.bind(reflector, json));
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, parsed in place from the given <em>json</em>
+     * characters.
+     *
+     * @see Triton#toRecord(Class, char[])
+     */
+    public final T toRecord(final char[] json) {
+        return recordType().cast(Binder.bind(reflector, json));
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, parsed from the JSON document provided by the given
+     * <em>reader</em>. The <em>reader</em> is not closed.
+     *
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see Triton#toRecord(Class, Reader)
+     */
+    public final T toRecord(final Reader json) {
+        return recordType().cast(Binder.bind(reflector, json));
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, parsed from the given UTF-8 encoded <em>json</em>
+     * bytes.
+     *
+     * @see Triton#toRecord(Class, byte[])
+     */
+    public final T toRecord(final byte[] json) {
+        return toRecord(Utf8Reader.of(json));
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, parsed from the UTF-8 encoded JSON document provided
+     * by the given <em>stream</em>. The <em>stream</em> is not closed.
+     *
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see Triton#toRecord(Class, InputStream)
+     */
+    public final T toRecord(final InputStream json) {
+        return toRecord(Utf8Reader.of(json));
+    }
+
+    /**
+     * Returns a lazy, sequential {@link Stream} of instances of the underlying record type, parsed one after
+     * another from the JSON documents provided by the given <em>reader</em>. The <em>reader</em> is not closed.
+     *
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see Triton#toRecords(Class, Reader)
+     */
+    public final Stream<T> toRecords(final Reader jsonLines) {
+        return Binder.bindAll(reflector, Source.of(jsonLines))
+                     .map(recordType()::cast);
+    }
+
+    /**
+     * Returns a lazy, sequential {@link Stream} of instances of the underlying record type, parsed one after
+     * another from the UTF-8 encoded JSON documents provided by the given <em>stream</em>.
+     * The <em>stream</em> is not closed.
+     *
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see Triton#toRecords(Class, InputStream)
+     */
+    public final Stream<T> toRecords(final InputStream jsonLines) {
+        return toRecords(Utf8Reader.of(jsonLines));
+    }
+
+    /**
+     * Returns a new {@link Feeder} that binds instances of the underlying record type from JSON documents fed in
+     * arbitrary fragments and passes each of them to the given <em>consumer</em> as soon as it is complete.
+     *
+     * @see Triton#feeder(Class, Consumer)
+     */
+    public final Feeder<T> feeder(final Consumer<? super T> consumer) {
+        return new Feeder<>(reflector, consumer);
+    }
+
+    /**
+     * Returns the difference between the given <em>origin</em> and <em>target</em> as a compact
+     * <em>JSON Merge Patch</em>.
+     *
+     * @see Triton#diff(Class, Record, Record)
+     */
+    public final String diff(final T origin, final T target) {
+        return MergePatch.diff(reflector, origin, target);
+    }
+
+    /**
+     * Returns a new instance of the underlying record type that results from applying the given <em>patch</em>
+     * to the given <em>origin</em>.
+     *
+     * @see Triton#patch(Class, Record, String)
+     */
+    public final T patch(final T origin, final String patch) {
+        return recordType().cast(MergePatch.apply(reflector, origin, patch));
+    }
+
+    /**
+     * Returns JSON-formatted {@link String} representations of the given <em>sources</em>, in the same order.
+     * The sources are rendered in parallel.
+     *
+     * @see Triton#toJsonAll(Collection, RenderOption...)
+     */
+    public final List<String> toJsonAll(final Collection<? extends T> sources) {
+        return sources.parallelStream()
+                      .map(this::toJson)
+                      .toList();
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of JSON-formatted {@link String} representations of the elements of the given
+     * <em>sources</em>, in the same order. The sources are rendered as the resulting stream is consumed.
+     *
+     * @see Triton#toJsonAll(Stream, RenderOption...)
+     */
+    public final Stream<String> toJsonAll(final Stream<? extends T> sources) {
+        return sources.map(this::toJson);
+    }
+
+    /**
+     * Returns a compact binary representation of the given <em>source</em>.
+     *
+     * @see Triton#toBinary(Record)
+     */
+    public final byte[] toBinary(final T source) {
+        return BinaryEncoder.encode(source, reflector);
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, decoded from the given <em>binary</em>
+     * representation.
+     *
+     * @throws IllegalArgumentException if the <em>binary</em> representation is malformed or does not match the
+     *                                  record type.
+     * @see Triton#fromBinary(Class, byte[])
+     */
+    public final T fromBinary(final byte[] binary) {
+        return recordType().cast(BinaryDecoder.decode(reflector, binary));
+    }
+
+    /**
+     * Returns a {@link Map} containing the component values of the given <em>source</em>.
+     *
+     * @see Triton#toMap(Record)
+     */
+    public final Map<String, Object> toMap(final T source) {
+        return reflector.toMap(source);
+    }
+
+    /**
+     * Returns a new instance of the underlying record type, mapped from the given <em>map</em>.
+     *
+     * @see Triton#toRecord(Class, Map)
+     */
+    public final T toRecord(final Map<String, Object> map) {
+        return reflector.toRecord(map);
+    }
+}
@@ -1,27 +1,180 @@
 package de.team33.patterns.records.triton;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Objects;
 
+/**
+ * Provides the characters of a JSON document in a single forward pass.
+ * <p>
+ * The characters are either held completely in a {@code char[]} or are read successively from a {@link Reader}
+ * into an internal buffer. In the latter case, only the characters from the current {@linkplain #mark() mark}
+ * (if any) up to the current position are retained when the buffer is refilled.
+ */
 class Source {
 
-    private final String text;
-    private int index;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_SIZE = 1 << 16;
+    private static final int NO_MARK = -1;
+    private static final char[] NO_CHARS = {};
+
+    private Reader reader;
+    private char[] buffer;
+    private char[] retained;
+    private int offset;
+    private int position;
+    private int limit;
+    private int mark = NO_MARK;
 
     Source(final String text) {
-        this(text, 0);
+        reset(text);
+    }
+
+    private Source() {
+        this.buffer = NO_CHARS;
+    }
+
+    /**
+     * Returns a new {@link Source} that provides the given <em>chars</em> without copying them.
+     */
+    static Source of(final char[] chars) {
+        return new Source().reset(chars);
+    }
+
+    /**
+     * Returns a new {@link Source} that reads its characters from the given <em>reader</em> on demand.
+     * <p>
+     * An {@link IOException} that occurs while reading is wrapped in an {@link UncheckedIOException}.
+     * The <em>reader</em> is not closed.
+     */
+    static Source of(final Reader reader) {
+        return new Source().reset(reader);
+    }
+
+    /**
+     * Returns a new {@link Source} that provides nothing until it is {@linkplain #reset(String) reset}.
+     */
+    static Source empty() {
+        return new Source();
+    }
+
+    /**
+     * Resets <em>this</em> {@link Source} to provide the characters of the given <em>text</em>.
+     * The characters are copied into an internal buffer, which is reused if it is large enough.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    final Source reset(final String text) {
+        final int length = text.length();
+        final char[] chars = retained(length);
+        text.getChars(0, length, chars, 0);
+        return reset(null, chars, length);
+    }
+
+    /**
+     * Resets <em>this</em> {@link Source} to provide the given <em>chars</em> without copying them.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    final Source reset(final char[] chars) {
+        return reset(chars, chars.length);
+    }
+
+    /**
+     * Resets <em>this</em> {@link Source} to provide the first <em>length</em> of the given <em>chars</em> without
+     * copying them.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    final Source reset(final char[] chars, final int length) {
+        return reset(null, chars, length);
+    }
+
+    /**
+     * Resets <em>this</em> {@link Source} to read its characters from the given <em>reader</em> on demand, using an
+     * internal buffer, which is reused.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    final Source reset(final Reader reader) {
+        return reset(Objects.requireNonNull(reader), retained(BUFFER_SIZE), 0);
+    }
+
+    private Source reset(final Reader reader, final char[] buffer, final int limit) {
+        this.reader = reader;
+        this.buffer = buffer;
+        this.offset = 0;
+        this.position = 0;
+        this.limit = limit;
+        this.mark = NO_MARK;
+        return this;
+    }
+
+    /**
+     * Releases any references to external resources. An internal buffer is retained for reuse unless it has grown
+     * too large.
+     */
+    final void clear() {
+        reset(null, NO_CHARS, 0);
+        if ((null != retained) && (MAX_RETAINED_SIZE < retained.length)) {
+            retained = null;
+        }
     }
 
-    private Source(final String text, final int index) {
-        this.text = Objects.requireNonNull(text);
-        this.index = index;
+    private char[] retained(final int minLength) {
+        if ((null == retained) || (retained.length < minLength)) {
+            retained = new char[minLength];
+        }
+        return retained;
     }
 
     final int index() {
-        return index;
+        return offset + position;
     }
 
     final boolean hasMore() {
-        return index < text.length();
+        return (position < limit) || fill();
+    }
+
+    private boolean fill() {
+        while ((null != reader) && (limit <= position)) {
+            compact();
+            final int count = read();
+            if (0 > count) {
+                reader = null;
+            } else {
+                limit += count;
+            }
+        }
+        return position < limit;
+    }
+
+    private void compact() {
+        final int keep = Math.min((NO_MARK == mark) ? position : mark, limit);
+        if (0 < keep) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            offset += keep;
+            position -= keep;
+            limit -= keep;
+            if (NO_MARK != mark) {
+                mark -= keep;
+            }
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+            // only a buffer owned by this source is ever refilled ...
+            retained = buffer;
+        }
+    }
+
+    private int read() {
+        try {
+            return reader.read(buffer, limit, buffer.length - limit);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -31,7 +184,7 @@ class Source {
     final Source failIfMore() {
         if (hasMore()) {
             throw new IllegalArgumentException(
-                    "expected end of source text at index %d".formatted(index));
+                    "expected end of source text at index %d".formatted(index()));
         }
         return this;
     }
@@ -42,13 +195,16 @@ class Source {
     final Source failIfEOT() {
         if (!hasMore()) {
             throw new IllegalArgumentException(
-                    "unexpected end of source text at index %d".formatted(index));
+                    "unexpected end of source text at index %d".formatted(index()));
         }
         return this;
     }
 
     final char peek() {
-        return failIfEOT().text.charAt(index);
+        if ((position < limit) || fill()) {
+            return buffer[position];
+        }
+        return failIfEOT().buffer[position];
     }
 
     /**
@@ -62,7 +218,7 @@ class Source {
      * Returns <em>this</em> {@link Source}.
      */
     final Source skip(final int offset) {
-        index += offset;
+        position += offset;
         return this;
     }
 
@@ -70,12 +226,12 @@ class Source {
      * Returns <em>this</em> {@link Source}.
      */
     final Source expect(final char expected) {
-        final char c = failIfEOT().peek();
+        final char c = peek();
         if (expected == c) {
             return skip();
         } else {
             throw new IllegalArgumentException(
-                    "expected '%c' - but was '%c' at index %d".formatted(expected, c, index));
+                    "expected '%c' - but was '%c' at index %d".formatted(expected, c, index()));
         }
     }
 
@@ -84,22 +240,132 @@ class Source {
      */
     @SuppressWarnings("UnusedReturnValue")
     final Source skipWhitespace() {
-        while (hasMore() && Character.isWhitespace(peek())) {
-            skip();
+        while (hasMore() && Character.isWhitespace(buffer[position])) {
+            ++position;
         }
         return this;
     }
 
-    final String peekUntil(final CharPredicate predicate) {
-        final Source fork = fork();
-        while (fork.hasMore() && !predicate.test(fork.peek())) {
-            fork.skip();
+    /**
+     * Skips the next character if it is the <em>expected</em> one.
+     *
+     * @return {@code true} if the character was skipped.
+     */
+    final boolean skipIf(final char expected) {
+        if (hasMore() && (expected == buffer[position])) {
+            ++position;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips the next character if it matches the given <em>predicate</em>.
+     *
+     * @return {@code true} if the character was skipped.
+     */
+    final boolean skipIf(final CharPredicate predicate) {
+        if (hasMore() && predicate.test(buffer[position])) {
+            ++position;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips all subsequent characters that match the given <em>predicate</em>.
+     *
+     * @return the number of skipped characters.
+     */
+    final int skipWhile(final CharPredicate predicate) {
+        final int start = index();
+        while (hasMore() && predicate.test(buffer[position])) {
+            ++position;
         }
-        return text.substring(index, fork.index);
+        return index() - start;
+    }
+
+    /**
+     * Skips the given <em>word</em> if the subsequent characters match it and the word is followed either by the
+     * end of the source text or by a character matching the given <em>delimiter</em>.
+     * Otherwise, the position remains unchanged.
+     * <p>
+     * Discards a previously set {@linkplain #mark() mark}.
+     *
+     * @return {@code true} if the word was skipped.
+     */
+    final boolean skipWord(final String word, final CharPredicate delimiter) {
+        mark();
+        final int length = word.length();
+        for (int index = 0; index < length; ++index) {
+            if (!skipIf(word.charAt(index))) {
+                reset();
+                return false;
+            }
+        }
+        if (isDelimited(delimiter)) {
+            mark = NO_MARK;
+            return true;
+        }
+        reset();
+        return false;
+    }
+
+    /**
+     * Determines if the current position is at the end of the source text or at a character matching the given
+     * <em>delimiter</em>.
+     */
+    final boolean isDelimited(final CharPredicate delimiter) {
+        return !hasMore() || delimiter.test(buffer[position]);
     }
 
-    private Source fork() {
-        return new Source(text, index);
+    /**
+     * Marks the current position. Only one mark is supported at a time.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    final Source mark() {
+        mark = position;
+        return this;
+    }
+
+    /**
+     * Resets the position to the current {@linkplain #mark() mark} and discards the mark.
+     * <p>
+     * Returns <em>this</em> {@link Source}.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    final Source reset() {
+        position = mark;
+        mark = NO_MARK;
+        return this;
+    }
+
+    /**
+     * Applies the given <em>function</em> to the characters from the current {@linkplain #mark() mark} up to the
+     * current position and discards the mark.
+     */
+    final <R> R marked(final CharsFunction<R> function) {
+        final R result = function.apply(buffer, mark, position - mark);
+        mark = NO_MARK;
+        return result;
+    }
+
+    /**
+     * Returns the characters from the current position up to the first character matching the given
+     * <em>predicate</em> or the end of the source text. The position remains unchanged.
+     * <p>
+     * Discards a previously set {@linkplain #mark() mark}.
+     */
+    final String peekUntil(final CharPredicate predicate) {
+        mark();
+        while (hasMore() && !predicate.test(buffer[position])) {
+            ++position;
+        }
+        final String result = new String(buffer, mark, position - mark);
+        reset();
+        return result;
     }
 
     @FunctionalInterface
@@ -107,4 +373,10 @@ class Source {
 
         boolean test(char c);
     }
+
+    @FunctionalInterface
+    interface CharsFunction<R> {
+
+        R apply(char[] chars, int offset, int length);
+    }
 }
@@ -0,0 +1,88 @@
+package de.team33.patterns.records.triton;
+
+import de.team33.patterns.enums.pan.Values;
+import de.team33.patterns.exceptional.dione.XFunction;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Defines built-in <em>'stringable'</em> codecs for common value types of the JDK.
+ * <p>
+ * Unlike the codecs found reflectively by {@link Stringable}, these are plain method references and some of
+ * them avoid the generic {@link java.time.format.DateTimeFormatter} machinery.
+ * A codec applies to its type and to any subtype, e.g. to the implementations of {@link Path}.
+ */
+enum StandardCodec {
+
+    INSTANT(Instant.class, IsoInstant::format, IsoInstant::parse),
+    LOCAL_DATE(LocalDate.class, LocalDate::toString, LocalDate::parse),
+    LOCAL_TIME(LocalTime.class, LocalTime::toString, LocalTime::parse),
+    LOCAL_DATE_TIME(LocalDateTime.class, LocalDateTime::toString, LocalDateTime::parse),
+    OFFSET_DATE_TIME(OffsetDateTime.class, OffsetDateTime::toString, OffsetDateTime::parse),
+    ZONED_DATE_TIME(ZonedDateTime.class, ZonedDateTime::toString, ZonedDateTime::parse),
+    DURATION(Duration.class, Duration::toString, Duration::parse),
+    PERIOD(Period.class, Period::toString, Period::parse),
+    ZONE_ID(ZoneId.class, ZoneId::getId, ZoneId::of),
+    UNIQUE_ID(UUID.class, UUID::toString, UUID::fromString),
+    URI_REFERENCE(URI.class, URI::toString, URI::create),
+    PATH(Path.class, Path::toString, Path::of);
+
+    private static final Values<StandardCodec> VALUES = Values.of(StandardCodec.class);
+
+    private final Class<?> type;
+    @SuppressWarnings("rawtypes")
+    private final XFunction encoder;
+    @SuppressWarnings("rawtypes")
+    private final XFunction decoder;
+
+    <T> StandardCodec(final Class<T> type,
+                      final XFunction<T, String, RuntimeException> encoder,
+                      final XFunction<String, T, RuntimeException> decoder) {
+        this.type = type;
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Returns the codec responsible for the given <em>type</em>, if any.
+     */
+    static Optional<StandardCodec> of(final Class<?> type) {
+        return VALUES.findAny(codec -> codec.type.isAssignableFrom(type));
+    }
+
+    /**
+     * Returns a new {@link Mapping} based on <em>this</em> codec.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> Mapping<T, String> mapping() {
+        return new Mapping<T, String>(reflective(encoder), reflective(decoder));
+    }
+
+    /**
+     * Wraps any failure of the given <em>function</em> in an {@link InvocationTargetException}, just like the
+     * reflective codecs of {@link Stringable} do, so that a failing codec is reported the same way in any case.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static XFunction reflective(final XFunction function) {
+        return input -> {
+            try {
+                return function.apply(input);
+            } catch (final RuntimeException e) {
+                throw new InvocationTargetException(e);
+            }
+        };
+    }
+}
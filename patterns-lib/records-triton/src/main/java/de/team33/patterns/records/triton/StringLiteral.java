@@ -1,58 +1,155 @@
 package de.team33.patterns.records.triton;
 
-import de.team33.patterns.enums.pan.Values;
-
-import java.util.Optional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 final class StringLiteral {
 
+    private static final int TABLE_SIZE = 128;
+    private static final char NO_PLAIN = 0;
+    private static final String[] ESCAPED = escapedTable();
+    private static final char[] PLAIN = plainTable();
+
     private StringLiteral() {
     }
 
+    private static String[] escapedTable() {
+        final String[] result = new String[TABLE_SIZE];
+        for (char plain = 0; plain < ' '; ++plain) {
+            result[plain] = "\\u%04x".formatted((int) plain);
+        }
+        for (final EscapeMapping mapping : EscapeMapping.values()) {
+            result[mapping.plain] = mapping.escaped();
+        }
+        return result;
+    }
+
+    private static char[] plainTable() {
+        final char[] result = new char[TABLE_SIZE];
+        for (final EscapeMapping mapping : EscapeMapping.values()) {
+            result[mapping.symbol] = mapping.plain;
+        }
+        result['/'] = '/';
+        return result;
+    }
+
+    private static boolean isPlain(final char c) {
+        return ('"' != c) && ('\\' != c);
+    }
+
     static String render(final String source) {
-        final StringBuilder result = new StringBuilder().append('"');
-        for (int index = 0; index < source.length(); ++index) {
+        final StringBuilder result = new StringBuilder(source.length() + 2);
+        try {
+            render(source, result);
+        } catch (final IOException e) {
+            // not expected to happen with a StringBuilder
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Appends the given <em>source</em> as a quoted JSON string literal to the given <em>target</em>.
+     * <p>
+     * Runs of characters that need no escaping are appended as a whole.
+     */
+    static void render(final String source, final Appendable target) throws IOException {
+        target.append('"');
+        final int length = source.length();
+        int start = 0;
+        for (int index = 0; index < length; ++index) {
             final char next = source.charAt(index);
-            final String quoted = mappingPlain(next).map(EscapeMapping::escaped)
-                                                    .orElseGet(() -> Character.toString(next));
-            result.append(quoted);
+            if ((TABLE_SIZE > next) && (null != ESCAPED[next])) {
+                target.append(source, start, index)
+                      .append(ESCAPED[next]);
+                start = index + 1;
+            }
         }
-        return result.append('"').toString();
+        target.append(source, start, length)
+              .append('"');
     }
 
     static String parse(final Source source) {
-        final StringBuilder body = new StringBuilder();
-        char next = source.expect('"')
-                          .failIfEOT()
-                          .peek();
-        while (next != '"') {
+        source.expect('"')
+              .mark()
+              .skipWhile(StringLiteral::isPlain);
+        if ('"' == source.peek()) {
+            final String result = source.marked(String::new);
             source.skip();
-            if ('\\' == next) {
-                final char symbol = source.failIfEOT().peek();
-                final char plain = mappingSymbol(symbol).map(EscapeMapping::plain)
-                                                        .orElseThrow(() -> parseException(source.index() - 1, symbol));
-                source.skip();
-                body.append(plain);
-            } else {
-                body.append(next);
-            }
-            next = source.failIfEOT().peek();
+            return result;
+        }
+        final StringBuilder body = source.marked(StringLiteral::newBuilder);
+        while ('"' != source.peek()) {
+            body.append(parseEscape(source.skip()));
+            source.mark()
+                  .skipWhile(StringLiteral::isPlain);
+            source.marked(body::append);
         }
         source.skip();
         return body.toString();
     }
 
-    private static IllegalArgumentException parseException(final int index, final char symbol) {
-        return new IllegalArgumentException(
-                "unexpected escape sequence: '\\%c' at index %d".formatted(symbol, index));
+    /**
+     * Skips a quoted JSON string literal, checking its escape sequences but without building a {@link String}.
+     */
+    static void skip(final Source source) {
+        source.expect('"')
+              .skipWhile(StringLiteral::isPlain);
+        while ('"' != source.peek()) {
+            parseEscape(source.skip());
+            source.skipWhile(StringLiteral::isPlain);
+        }
+        source.skip();
     }
 
-    private static Optional<EscapeMapping> mappingSymbol(final char symbol) {
-        return EscapeMapping.VALUES.findAny(value -> symbol == value.symbol);
+    private static StringBuilder newBuilder(final char[] chars, final int offset, final int length) {
+        return new StringBuilder(length + 16).append(chars, offset, length);
     }
 
-    private static Optional<EscapeMapping> mappingPlain(final char plain) {
-        return EscapeMapping.VALUES.findAny(value -> plain == value.plain);
+    private static char parseEscape(final Source source) {
+        final char symbol = source.peek();
+        if ('u' == symbol) {
+            return parseUnicode(source.skip());
+        }
+        final char plain = (TABLE_SIZE > symbol) ? PLAIN[symbol] : NO_PLAIN;
+        if (NO_PLAIN == plain) {
+            throw parseException(source.index() - 1, symbol);
+        }
+        source.skip();
+        return plain;
+    }
+
+    private static char parseUnicode(final Source source) {
+        final int start = source.index() - 2;
+        int result = 0;
+        for (int count = 0; count < 4; ++count) {
+            final int digit = hexDigit(source.peek());
+            if (0 > digit) {
+                throw new IllegalArgumentException(
+                        "illegal unicode escape sequence at index %d".formatted(start));
+            }
+            result = (result << 4) | digit;
+            source.skip();
+        }
+        return (char) result;
+    }
+
+    private static int hexDigit(final char c) {
+        if (('0' <= c) && (c <= '9')) {
+            return c - '0';
+        }
+        if (('a' <= c) && (c <= 'f')) {
+            return c - 'a' + 10;
+        }
+        if (('A' <= c) && (c <= 'F')) {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException parseException(final int index, final char symbol) {
+        return new IllegalArgumentException(
+                "unexpected escape sequence: '\\%c' at index %d".formatted(symbol, index));
     }
 
     private enum EscapeMapping {
@@ -65,8 +162,6 @@ final class StringLiteral {
         CARRIAGE_RETURN('\r', 'r'),
         TABULATOR('\t', 't');
 
-        private static final Values<EscapeMapping> VALUES = Values.of(EscapeMapping.class);
-
         private final char plain;
         private final char symbol;
 
@@ -75,10 +170,6 @@ final class StringLiteral {
             this.symbol = symbol;
         }
 
-        final char plain() {
-            return plain;
-        }
-
         final String escaped() {
             return "\\" + symbol;
         }
@@ -2,13 +2,18 @@ package de.team33.patterns.records.triton;
 
 import de.team33.patterns.exceptional.dione.XFunction;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -18,6 +23,11 @@ final class Stringable {
     @SuppressWarnings("rawtypes")
     private static final Map<Class, Mapping> MAPPINGS =
             new ConcurrentHashMap<>();
+    private static final int MAX_UNSUPPORTED = 1024;
+    private static final Set<Class<?>> UNSUPPORTED =
+            ConcurrentHashMap.newKeySet();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType DECODER_TYPE = MethodType.methodType(Object.class, String.class);
 
     private static final List<Class<?>> STRING_CLASSES =
             List.of(CharSequence.class, String.class);
@@ -42,13 +52,37 @@ final class Stringable {
         return (String) mapping((Class) source.getClass()).map(source);
     }
 
+    /**
+     * Determines if the given <em>type</em> is <em>'stringable'</em>.
+     * <p>
+     * Unlike a supported type, an unsupported type is not bound to a {@link Mapping} but only remembered in a
+     * bounded cache, so probing arbitrary types neither fills the mappings permanently nor prevents a later
+     * {@linkplain #setup(Class, UnaryOperator) setup}.
+     */
+    @SuppressWarnings("rawtypes")
     static boolean supports(final Class<?> type) {
-        return mapping(type).isFeatured();
+        final Mapping found = MAPPINGS.get(type);
+        if (null != found) {
+            return found.isFeatured();
+        }
+        if (UNSUPPORTED.contains(type)) {
+            return false;
+        }
+        final Mapping<?, String> mapping = newMapping(type);
+        if (mapping.isFeatured()) {
+            return MAPPINGS.computeIfAbsent(type, key -> mapping).isFeatured();
+        }
+        if (MAX_UNSUPPORTED <= UNSUPPORTED.size()) {
+            UNSUPPORTED.clear();
+        }
+        UNSUPPORTED.add(type);
+        return false;
     }
 
     @SuppressWarnings("unchecked")
     static <T> void setup(final Class<T> type, final UnaryOperator<Mapping<T, String>> operator) {
         MAPPINGS.compute(type, (key, value) -> setup(key, value, operator));
+        UNSUPPORTED.remove(type);
     }
 
     private static <T> Mapping<T, String> setup(final Class<T> type,
@@ -67,7 +101,9 @@ final class Stringable {
     }
 
     private static <T> Mapping<T, String> newMapping(final Class<T> type) {
-        return new Mapping<>(Object::toString, newMethod(type));
+        return StandardCodec.of(type)
+                            .map(StandardCodec::<T>mapping)
+                            .orElseGet(() -> new Mapping<>(Object::toString, newMethod(type)));
     }
 
     private static <T> XFunction<String, T, Exception> newMethod(final Class<T> type) {
@@ -94,12 +130,42 @@ final class Stringable {
 
     @SuppressWarnings("BoundedWildcard")
     private static <T> XFunction<String, T, Exception> toMethod(final Constructor<T> constructor) {
-        return constructor::newInstance;
+        try {
+            return toMethod(LOOKUP.unreflectConstructor(constructor));
+        } catch (final IllegalAccessException ignored) {
+            // e.g. a public constructor of an inaccessible class: fall back to reflection ...
+            return constructor::newInstance;
+        }
     }
 
     @SuppressWarnings("unchecked")
     private static <T> XFunction<String, T, Exception> toMethod(final Method method) {
-        return parameter -> (T) method.invoke(null, parameter);
+        try {
+            return toMethod(LOOKUP.unreflect(method));
+        } catch (final IllegalAccessException ignored) {
+            // e.g. a public method of an inaccessible class: fall back to reflection ...
+            return parameter -> (T) method.invoke(null, parameter);
+        }
+    }
+
+    private static <T> XFunction<String, T, Exception> toMethod(final MethodHandle handle) {
+        final MethodHandle decoder = handle.asType(DECODER_TYPE);
+        return parameter -> invoke(decoder, parameter);
+    }
+
+    /**
+     * Invokes the given <em>decoder</em> with the given <em>parameter</em>. Any failure is wrapped in an
+     * {@link InvocationTargetException}, just like a reflective invocation would do.
+     */
+    @SuppressWarnings({"unchecked", "OverlyBroadCatchBlock"})
+    private static <T> T invoke(final MethodHandle decoder, final String parameter)
+            throws InvocationTargetException {
+        try {
+            final Object result = (Object) decoder.invokeExact(parameter);
+            return (T) result;
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
     }
 
     private static Class<?> cntrctrPrmtrClass(final Constructor<?> constructor) {
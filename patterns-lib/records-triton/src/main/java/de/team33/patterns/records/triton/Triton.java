@@ -1,13 +1,20 @@
 package de.team33.patterns.records.triton;
 
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static de.team33.patterns.records.triton.Util.typeName;
@@ -48,8 +55,109 @@ public final class Triton {
      */
     @SuppressWarnings("OverloadedVarargsMethod")
     public static String toJson(final Record source, final RenderOption... options) {
-        final JsonValue value = Generalizer.map(source);
-        return Renderer.render(value, Set.of(options));
+        return Renderer.render(source, Renderer.Format.of(options));
+    }
+
+    /**
+     * Returns JSON-formatted {@link String} representations of the given <em>sources</em>
+     * using given rendering <em>options</em>, in the same order.
+     * <p>
+     * The sources are rendered in parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+     * Each worker thread reuses its own render buffer.
+     *
+     * @see #toJson(Record, RenderOption...)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static List<String> toJsonAll(final Collection<? extends Record> sources,
+                                         final RenderOption... options) {
+        final Renderer.Format format = Renderer.Format.of(options);
+        return sources.parallelStream()
+                      .map(source -> Renderer.render(source, format))
+                      .toList();
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of JSON-formatted {@link String} representations of the elements of the given
+     * <em>sources</em> using given rendering <em>options</em>, in the same order.
+     * <p>
+     * Unlike {@link #toJsonAll(Collection, RenderOption...)}, the sources are rendered as the resulting stream is
+     * consumed, sequentially or in parallel, just as the given <em>sources</em> are. Each thread reuses its own
+     * render buffer.
+     *
+     * @see #toJson(Record, RenderOption...)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static Stream<String> toJsonAll(final Stream<? extends Record> sources, final RenderOption... options) {
+        final Renderer.Format format = Renderer.Format.of(options);
+        return sources.map(source -> Renderer.render(source, format));
+    }
+
+    /**
+     * Writes a JSON-formatted representation of the given <em>source</em> to the given <em>target</em>
+     * using given rendering <em>options</em>.
+     * <p>
+     * The representation is rendered incrementally, so it is never held in memory as a whole.
+     * The <em>target</em> is neither flushed nor closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see RenderOption
+     * @see de.team33.patterns.records.triton package
+     */
+    public static void writeJson(final Record source,
+                                 final Appendable target,
+                                 final RenderOption... options) throws IOException {
+        try {
+            Renderer.render(source, Renderer.Format.of(options), target);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes a UTF-8 encoded, JSON-formatted representation of the given <em>source</em> to the given
+     * <em>target</em> using given rendering <em>options</em>.
+     * <p>
+     * The representation is rendered incrementally through a buffer, so it is never held in memory as a whole.
+     * The <em>target</em> is flushed but not closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see RenderOption
+     * @see de.team33.patterns.records.triton package
+     */
+    public static void writeJson(final Record source,
+                                 final OutputStream target,
+                                 final RenderOption... options) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        writeJson(source, writer, options);
+        writer.flush();
+    }
+
+    /**
+     * Writes JSON-formatted representations of the given <em>sources</em> to the given <em>target</em>,
+     * one per line (known as <em>JSON Lines</em> or <em>NDJSON</em>).
+     * <p>
+     * Each line is terminated by {@code '\n'}. Since every record must be rendered in a single line, only
+     * {@link RenderOption#SKIP_NULL}, {@link RenderOption#INSTANT_AS_EPOCH_MILLIS} and
+     * {@link RenderOption#CANONICAL} are taken into account from the given <em>options</em>.
+     * The records are rendered incrementally, one after another. The <em>target</em> is neither flushed nor
+     * closed.
+     *
+     * @throws IOException if the <em>target</em> fails.
+     * @see #toRecords(Class, Reader)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static void writeJsonLines(final Iterable<? extends Record> sources,
+                                      final Appendable target,
+                                      final RenderOption... options) throws IOException {
+        final Renderer.Format format = Renderer.Format.of(options).singleLine();
+        try {
+            for (final Record source : sources) {
+                Renderer.render(source, format, target);
+                target.append('\n');
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
@@ -59,9 +167,218 @@ public final class Triton {
      * @see de.team33.patterns.records.triton package
      */
     public static <T extends Record> T toRecord(final Class<T> recordType, final String json) {
-        final JsonValue value = Parser.parse(json);
-        final Object result = Resolver.resolve(recordType, value);
-        return recordType.cast(result);
+        return recordType.cast(Binder.bind(reflector(recordType), json));
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em>, parsed from the given <em>json</em> characters.
+     * <p>
+     * The characters are parsed in place, without copying them. They must not be modified during parsing.
+     *
+     * @param <T> The record type.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T toRecord(final Class<T> recordType, final char[] json) {
+        return recordType.cast(Binder.bind(reflector(recordType), json));
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em>, parsed from the JSON document provided by the
+     * given <em>reader</em>.
+     * <p>
+     * The document is read in a single forward pass using an internal buffer.
+     * The <em>reader</em> is not closed.
+     *
+     * @param <T> The record type.
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T toRecord(final Class<T> recordType, final Reader json) {
+        return recordType.cast(Binder.bind(reflector(recordType), json));
+    }
+
+    /**
+     * Returns new instances of the given <em>recordType</em>, parsed from the given <em>json</em>
+     * {@link String Strings}, in the same order.
+     * <p>
+     * The strings are parsed in parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param <T> The record type.
+     * @see #toRecord(Class, String)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> List<T> toRecordAll(final Class<T> recordType,
+                                                         final Collection<String> json) {
+        return json.parallelStream()
+                   .map(item -> toRecord(recordType, item))
+                   .toList();
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of new instances of the given <em>recordType</em>, parsed from the elements
+     * of the given <em>json</em> {@link Stream}, in the same order.
+     * <p>
+     * Unlike {@link #toRecordAll(Class, Collection)}, the strings are parsed as the resulting stream is consumed,
+     * sequentially or in parallel, just as the given <em>json</em> stream is.
+     *
+     * @param <T> The record type.
+     * @see #toRecord(Class, String)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> Stream<T> toRecordAll(final Class<T> recordType, final Stream<String> json) {
+        final Reflector<T> reflector = reflector(recordType);
+        return json.map(item -> recordType.cast(Binder.bind(reflector, item)));
+    }
+
+    /**
+     * Returns a lazy, sequential {@link Stream} of instances of the given <em>recordType</em>, parsed one after
+     * another from the JSON documents provided by the given <em>reader</em>. The documents are expected to be
+     * separated by whitespace, typically one per line (known as <em>JSON Lines</em> or <em>NDJSON</em>).
+     * <p>
+     * Each document is read and parsed only when the next element of the stream is requested.
+     * The <em>reader</em> is not closed.
+     *
+     * @param <T> The record type.
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see #writeJsonLines(Iterable, Appendable, RenderOption...)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> Stream<T> toRecords(final Class<T> recordType, final Reader jsonLines) {
+        return Binder.bindAll(reflector(recordType), Source.of(jsonLines))
+                     .map(recordType::cast);
+    }
+
+    /**
+     * Returns a new {@link Feeder} that binds instances of the given <em>recordType</em> from JSON documents fed
+     * in arbitrary fragments, e.g. as they arrive from a non-blocking channel, and passes each of them to the
+     * given <em>consumer</em> as soon as it is complete. The documents are expected to be separated by
+     * whitespace, as with {@link #toRecords(Class, Reader)}.
+     *
+     * @param <T> The record type.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> Feeder<T> feeder(final Class<T> recordType,
+                                                      final Consumer<? super T> consumer) {
+        return new Feeder<>(reflector(recordType), consumer);
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em>, parsed from the given UTF-8 encoded <em>json</em>
+     * bytes.
+     * <p>
+     * The bytes are decoded on the fly, without an intermediate copy of the whole document.
+     *
+     * @param <T> The record type.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T toRecord(final Class<T> recordType, final byte[] json) {
+        return toRecord(recordType, Utf8Reader.of(json));
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em>, parsed from the UTF-8 encoded JSON document
+     * provided by the given <em>stream</em>.
+     * <p>
+     * The document is read and decoded in a single forward pass using internal buffers, without an
+     * intermediate {@link Reader}. The <em>stream</em> is not closed.
+     *
+     * @param <T> The record type.
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T toRecord(final Class<T> recordType, final InputStream json) {
+        return toRecord(recordType, Utf8Reader.of(json));
+    }
+
+    /**
+     * Returns a lazy, sequential {@link Stream} of instances of the given <em>recordType</em>, parsed one after
+     * another from the UTF-8 encoded JSON documents provided by the given <em>stream</em>.
+     * <p>
+     * Behaves like {@link #toRecords(Class, Reader)} but decodes the bytes on the fly, without an intermediate
+     * {@link Reader}. The <em>stream</em> is not closed.
+     *
+     * @param <T> The record type.
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> Stream<T> toRecords(final Class<T> recordType, final InputStream jsonLines) {
+        return toRecords(recordType, Utf8Reader.of(jsonLines));
+    }
+
+    /**
+     * Extracts a single value of the given <em>type</em> from the given <em>json</em> document without binding the
+     * document as a whole. The value is located by the given <em>path</em>, whose elements either denote the name
+     * of a member of a JSON object or a decimal index into a JSON array.
+     * <p>
+     * Values other than the requested one are only checked for syntax errors, not materialized. As with
+     * {@linkplain #toRecord(Class, String) binding}, the last of several members with the same name counts, so the
+     * document is always parsed completely.
+     * Any type supported as a record component can be extracted, e.g. a {@link String} or a {@link Record}.
+     *
+     * @param <T> The value type.
+     * @return The extracted value or {@link Optional#empty()} if the <em>path</em> does not exist in the
+     * document or leads to a JSON {@code null}.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T> Optional<T> extract(final Class<T> type, final String json, final String... path) {
+        return extract(type, new Source(json), path);
+    }
+
+    /**
+     * Extracts a single value of the given <em>type</em> from the JSON document provided by the given
+     * <em>reader</em> without binding the document as a whole. The <em>reader</em> is not closed.
+     *
+     * @param <T> The value type.
+     * @return The extracted value or {@link Optional#empty()} if the <em>path</em> does not exist in the
+     * document or leads to a JSON {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while reading.
+     * @see #extract(Class, String, String...)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T> Optional<T> extract(final Class<T> type, final Reader json, final String... path) {
+        return extract(type, Source.of(json), path);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T> extract(final Class<T> type, final Source source, final String... path) {
+        final Class<T> resultType = (Class<T>) Util.boxed(type);
+        return Binder.extract(type, source, List.of(path))
+                     .map(resultType::cast);
+    }
+
+    /**
+     * Returns a compact binary representation of the given <em>source</em>, an alternative to JSON intended for
+     * transfer and storage between parties that share the record type.
+     * <p>
+     * Numbers are encoded as variable-length integers or as IEEE 754 bit patterns, strings as length-prefixed
+     * UTF-8, and record components are keyed by their index instead of their name. Components with a
+     * {@code null} value are omitted. A {@code null} <em>source</em> is encoded as such, as by
+     * {@link Serializer#toBinary(Record)}.
+     *
+     * @see #fromBinary(Class, byte[])
+     * @see de.team33.patterns.records.triton package
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static byte[] toBinary(final Record source) {
+        final Reflector<?> reflector = (null == source) ? null : reflector((Class) source.getClass());
+        return BinaryEncoder.encode(source, reflector);
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em>, decoded from the given <em>binary</em>
+     * representation.
+     * <p>
+     * Component indices unknown to the <em>recordType</em> are skipped, missing components are treated as
+     * {@code null}.
+     *
+     * @param <T> The record type.
+     * @throws IllegalArgumentException if the <em>binary</em> representation is malformed or does not match the
+     *                                  <em>recordType</em>.
+     * @see #toBinary(Record)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T fromBinary(final Class<T> recordType, final byte[] binary) {
+        return recordType.cast(BinaryDecoder.decode(reflector(recordType), binary));
     }
 
     /**
@@ -78,6 +395,43 @@ public final class Triton {
         return reflector(recordType).toMap(source);
     }
 
+    /**
+     * Returns the difference between the given <em>origin</em> and <em>target</em> as a compact
+     * <em>JSON Merge Patch</em> (RFC 7396), i.e. a JSON object that only contains the components that differ.
+     * <p>
+     * Nested records and {@linkplain Map maps} are compared member by member and result in nested patches.
+     * Any other component values, including arrays and collections, are compared by their content and replaced
+     * as a whole if they differ. A {@code null} member denotes a component that has become {@code null} or a
+     * map entry that has been removed, so {@code null} values of maps are treated as absent.
+     * <p>
+     * The patch is rendered {@linkplain RenderOption#CANONICAL canonically}. If the <em>origin</em> or the
+     * <em>target</em> is {@code null}, the patch is the <em>target</em> as a whole.
+     *
+     * @param <T> The record type.
+     * @see #patch(Class, Record, String)
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> String diff(final Class<T> recordType, final T origin, final T target) {
+        return MergePatch.diff(reflector(recordType), origin, target);
+    }
+
+    /**
+     * Returns a new instance of the given <em>recordType</em> that results from applying the given <em>patch</em>
+     * to the given <em>origin</em>.
+     * <p>
+     * The <em>patch</em> is expected to be a <em>JSON Merge Patch</em> (RFC 7396) as produced by
+     * {@link #diff(Class, Record, Record)}. Members that do not correspond to a component are ignored.
+     * If the <em>origin</em> is {@code null} or the <em>patch</em> is not a JSON object, the result is parsed
+     * from the <em>patch</em> as a whole.
+     *
+     * @param <T> The record type.
+     * @throws IllegalArgumentException if the <em>patch</em> is malformed or does not match the record type.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> T patch(final Class<T> recordType, final T origin, final String patch) {
+        return recordType.cast(MergePatch.apply(reflector(recordType), origin, patch));
+    }
+
     /**
      * Returns a new instance of the given <em>recordType</em>, mapped from the given <em>map</em>.
      * <p>
@@ -91,6 +445,20 @@ public final class Triton {
         return reflector(recordType).toRecord(map);
     }
 
+    /**
+     * Returns a {@link Serializer} for the given <em>recordType</em> using given rendering <em>options</em>.
+     * <p>
+     * The result resolves the structure of the record type and the options once, so it is preferable to the
+     * static methods of this class when records of the same type are converted repeatedly.
+     *
+     * @param <T> The record type.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static <T extends Record> Serializer<T> serializer(final Class<T> recordType,
+                                                             final RenderOption... options) {
+        return new Serializer<>(reflector(recordType), options);
+    }
+
     /**
      * Returns a {@link Descriptor} describing the given <em>recordType</em>.
      */
@@ -99,6 +467,31 @@ public final class Triton {
         return reflector(recordType);
     }
 
+    /**
+     * Designates the given <em>recordType</em> as deeply immutable with value semantics, i.e. equal instances
+     * always render equally, and enables a cache of up to <em>capacity</em> rendered JSON fragments of its
+     * instances. A <em>capacity</em> of zero disables the cache again.
+     * <p>
+     * Whenever such a record is rendered in a single line, i.e. {@link RenderOption#CANONICAL},
+     * {@link RenderOption#INLINE_OBJECT} without {@link RenderOption#FORMAT_ARRAY} or as
+     * {@linkplain #writeJsonLines(Iterable, Appendable, RenderOption...) JSON line}, the cached fragment of an
+     * equal instance is spliced in instead of rendering the components again. Meant for reference data that is
+     * rendered frequently, e.g. as a component of other records. Once the cache is full, further instances are
+     * rendered as usual.
+     * <p>
+     * <b>NOTE</b> that components of array types or of other mutable types violate the premise of this
+     * designation.
+     *
+     * @throws IllegalArgumentException if the <em>capacity</em> is negative.
+     * @see de.team33.patterns.records.triton package
+     */
+    public static void cacheFragments(final Class<? extends Record> recordType, final int capacity) {
+        if (0 > capacity) {
+            throw new IllegalArgumentException("capacity must not be negative - but was %d".formatted(capacity));
+        }
+        reflector(recordType).cacheFragments(capacity);
+    }
+
     /**
      * Allows to customize the {@link Mapping} of a <em>'stringable'</em> type.
      * <p>
@@ -117,44 +510,88 @@ public final class Triton {
     }
 
     @SuppressWarnings("unchecked")
-    private static <T extends Record> Reflector<T> reflector(final Class<T> recordClass) {
+    static <T extends Record> Reflector<T> reflector(final Class<T> recordClass) {
         return CACHE.computeIfAbsent(recordClass, Reflector::new);
     }
 
-    private static final class Reflector<T extends Record> implements Descriptor<T> {
+    static final class Reflector<T extends Record> implements Descriptor<T> {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Record.class);
+        private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Record.class);
+        private static final MethodType CREATOR_TYPE = MethodType.methodType(Record.class, Object[].class);
+        private static final Set<Class<?>> INTEGRAL = Set.of(byte.class, short.class, int.class, long.class);
 
-        private final Map<String, Integer> indices;
         private final List<String> names;
-        private final List<Method> methods;
+        private final NameIndex nameIndex;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] longGetters;
         private final Class<?>[] types;
+        private final Type[] genericTypes;
+        private final Class<?>[] boxedTypes;
+        private final Object[] defaults;
         private final Constructor<T> constructor;
+        private final MethodHandle creator;
+        private final Generalizer[] encoders;
+        private final Resolver[] decoders;
+        private final Reflector<?>[] nested;
+        private volatile Renderer.Fragments fragments;
 
         private Reflector(final Class<T> recordType) {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
             final RecordComponent[] components = recordType.getRecordComponents();
             this.names = Stream.of(components)
                                .map(RecordComponent::getName)
                                .toList();
-            this.methods = Stream.of(components)
-                                 .map(RecordComponent::getAccessor)
-                                 .peek(accessor -> accessor.setAccessible(true))
-                                 .toList();
+            final List<MethodHandle> handles = Stream.of(components)
+                                                     .map(RecordComponent::getAccessor)
+                                                     .peek(accessor -> accessor.setAccessible(true))
+                                                     .map(accessor -> unreflect(lookup, accessor))
+                                                     .toList();
+            this.getters = handles.stream()
+                                  .map(handle -> handle.asType(GETTER_TYPE))
+                                  .toArray(MethodHandle[]::new);
+            this.longGetters = handles.stream()
+                                      .map(handle -> INTEGRAL.contains(handle.type().returnType())
+                                                     ? handle.asType(LONG_GETTER_TYPE)
+                                                     : null)
+                                      .toArray(MethodHandle[]::new);
             this.types = Stream.of(components)
                                .map(RecordComponent::getType)
                                .toArray(Class<?>[]::new);
-            this.indices = IntStream.range(0, names.size())
-                                    .boxed()
-                                    .collect(HashMap::new,
-                                             (map, index) -> map.put(names.get(index), index),
-                                             HashMap::putAll);
+            this.genericTypes = Stream.of(components)
+                                      .map(RecordComponent::getGenericType)
+                                      .toArray(Type[]::new);
+            this.boxedTypes = Stream.of(types)
+                                    .map(Util::boxed)
+                                    .toArray(Class<?>[]::new);
+            this.defaults = Stream.of(types)
+                                  .map(type -> (Optional.class == type) ? Optional.empty() : null)
+                                  .toArray();
+            this.encoders = new Generalizer[types.length];
+            this.decoders = new Resolver[types.length];
+            this.nested = new Reflector<?>[types.length];
+            this.nameIndex = NameIndex.of(names);
             try {
                 this.constructor = recordType.getDeclaredConstructor(types);
                 this.constructor.setAccessible(true);
-            } catch (final NoSuchMethodException e) {
+                this.creator = lookup.unreflectConstructor(constructor)
+                                     .asSpreader(Object[].class, types.length)
+                                     .asType(CREATOR_TYPE);
+            } catch (final NoSuchMethodException | IllegalAccessException e) {
                 // difficult to test (should not happen at all) ...
                 throw new IllegalArgumentException("Cannot find constructor for %s%n".formatted(recordType), e);
             }
         }
 
+        private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method accessor) {
+            try {
+                return lookup.unreflect(accessor);
+            } catch (final IllegalAccessException e) {
+                // difficult to test (should not happen at all) ...
+                throw new IllegalArgumentException("Cannot access accessor %s%n".formatted(accessor), e);
+            }
+        }
+
         @Override
         public final Class<T> recordType() {
             return constructor.getDeclaringClass();
@@ -170,40 +607,257 @@ public final class Triton {
             return types[indexOf(name)];
         }
 
-        private Object get(final Record source, final String name) {
+        /**
+         * Returns the value of the component at the given <em>index</em> of the given <em>source</em>.
+         * Errors of the accessor are passed through unchanged, any other failure is reported as an
+         * {@link IllegalStateException}.
+         */
+        @SuppressWarnings({"OverlyBroadCatchBlock", "ProhibitedExceptionThrown"})
+        final Object get(final Record source, final int index) {
             try {
-                return methods.get(indexOf(name)).invoke(source);
-            } catch (final IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException(("Cannot access component <%s>%n" +
-                                                 "    source : %s%n" +
-                                                 "    type   : %s%n").formatted(name, source, typeName(source)), e);
+                return (Object) getters[index].invokeExact(source);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw accessFailure(source, index, e);
             }
         }
 
+        /**
+         * Determines if the component at the given <em>index</em> is of an integral primitive type
+         * ({@code byte}, {@code short}, {@code int} or {@code long}).
+         */
+        final boolean isIntegral(final int index) {
+            return null != longGetters[index];
+        }
+
+        /**
+         * Returns the value of the component at the given <em>index</em> of the given <em>source</em>
+         * without boxing. The component must be {@linkplain #isIntegral(int) integral}.
+         * Errors of the accessor are passed through unchanged, any other failure is reported as an
+         * {@link IllegalStateException}.
+         */
+        @SuppressWarnings({"OverlyBroadCatchBlock", "ProhibitedExceptionThrown"})
+        final long getLong(final Record source, final int index) {
+            try {
+                return (long) longGetters[index].invokeExact(source);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw accessFailure(source, index, e);
+            }
+        }
+
+        private IllegalStateException accessFailure(final Record source, final int index, final Throwable cause) {
+            return new IllegalStateException(("Cannot access component <%s>%n" +
+                                              "    source : %s%n" +
+                                              "    type   : %s%n").formatted(names.get(index),
+                                                                             source,
+                                                                             typeName(source)), cause);
+        }
+
         private int indexOf(final String name) {
-            return Optional.ofNullable(indices.get(name))
-                           .orElseThrow(() -> new NoSuchElementException("Cannot find component <%s>%n".formatted(name)));
+            final int result = nameIndex.indexOf(name);
+            if (0 > result) {
+                throw new NoSuchElementException("Cannot find component <%s>%n".formatted(name));
+            }
+            return result;
+        }
+
+        /**
+         * Returns the index of the specified component or {@code -1} if there is no such component.
+         */
+        final int lookup(final String name) {
+            return nameIndex.indexOf(name);
+        }
+
+        /**
+         * Returns the name of the component at the given <em>index</em>.
+         */
+        final String name(final int index) {
+            return names.get(index);
+        }
+
+        /**
+         * Returns the number of components.
+         */
+        final int size() {
+            return types.length;
+        }
+
+        /**
+         * Returns the declared type of the component at the given <em>index</em>.
+         */
+        final Class<?> type(final int index) {
+            return types[index];
+        }
+
+        /**
+         * Returns the {@link Generalizer} for the component at the given <em>index</em> or {@code null} if the
+         * component values must be {@linkplain Generalizer#map(Object) generalized} individually.
+         * <p>
+         * The latter applies to records and arrays as well as to types whose instances may be of different classes.
+         */
+        final Generalizer encoder(final int index) {
+            Generalizer result = encoders[index];
+            if ((null == result) && isExactLeaf(types[index])) {
+                result = Generalizer.of(Util.boxed(types[index]));
+                encoders[index] = result;
+            }
+            return result;
+        }
+
+        private static boolean isExactLeaf(final Class<?> type) {
+            return !type.isArray() && !type.isRecord() && (Optional.class != type) &&
+                   (type.isPrimitive() || type.isEnum() || Modifier.isFinal(type.getModifiers()));
+        }
+
+        /**
+         * Returns the {@link Resolver} for the component at the given <em>index</em>, taking into account its
+         * generic type.
+         */
+        final Resolver decoder(final int index) {
+            Resolver result = decoders[index];
+            if (null == result) {
+                result = Resolver.of(genericTypes[index]);
+                decoders[index] = result;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the {@link Reflector} for the component at the given <em>index</em> or {@code null} if the
+         * component is not of a record type.
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        final Reflector<?> nested(final int index) {
+            Reflector<?> result = nested[index];
+            if ((null == result) && types[index].isRecord()) {
+                result = reflector((Class) types[index]);
+                nested[index] = result;
+            }
+            return result;
+        }
+
+        /**
+         * Resolves the {@linkplain #encoder(int) encoders}, {@linkplain #decoder(int) decoders} and
+         * {@linkplain #nested(int) nested reflectors} of all components in advance, which are otherwise resolved on
+         * first use. This applies recursively to nested record types, including the record types of the elements
+         * of arrays, collections, maps and optionals.
+         * <p>
+         * Returns <em>this</em> {@link Reflector}.
+         */
+        final Reflector<T> resolveAll() {
+            resolveAll(Collections.newSetFromMap(new IdentityHashMap<>()));
+            return this;
+        }
+
+        private void resolveAll(final Set<Reflector<?>> resolved) {
+            if (resolved.add(this)) {
+                for (int index = 0; index < types.length; ++index) {
+                    encoder(index);
+                    final Reflector<?> result = nested(index);
+                    if (null != result) {
+                        result.resolveAll(resolved);
+                    }
+                    resolveAll(decoder(index), resolved);
+                }
+            }
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static void resolveAll(final Resolver resolver, final Set<Reflector<?>> resolved) {
+            if (resolver.targetType().isRecord()) {
+                reflector((Class) resolver.targetType()).resolveAll(resolved);
+            } else if (resolver.isSequence() || resolver.isMap() || resolver.isOptional()) {
+                resolveAll(resolver.elements(), resolved);
+            }
         }
 
-        private T toRecord(final Map<String, Object> source) {
+        /**
+         * Returns the cache of rendered fragments or {@code null} if the record type has not been designated for
+         * caching.
+         *
+         * @see Triton#cacheFragments(Class, int)
+         */
+        final Renderer.Fragments fragments() {
+            return fragments;
+        }
+
+        final void cacheFragments(final int capacity) {
+            fragments = (0 < capacity) ? new Renderer.Fragments(capacity) : null;
+        }
+
+        final T toRecord(final Map<String, Object> source) {
             final Object[] args = names.stream()
                                        .map(source::get)
                                        .toArray(Object[]::new);
+            return newInstance(args);
+        }
+
+        /**
+         * Returns a new array of component values in declaration order, to be passed to
+         * {@link #newInstance(Object[])}, initialized with the values of absent components: an empty
+         * {@link Optional} for {@link Optional} components, {@code null} for any others.
+         */
+        final Object[] newArgs() {
+            return defaults.clone();
+        }
+
+        /**
+         * Returns a new record instance, initialized with the given component values in declaration order.
+         * Errors of the constructor are passed through unchanged, any other failure is reported as an
+         * {@link IllegalStateException}.
+         */
+        @SuppressWarnings({"unchecked", "OverlyBroadCatchBlock", "ProhibitedExceptionThrown"})
+        final T newInstance(final Object[] args) {
+            if (isExact(args)) {
+                try {
+                    return (T) (Record) creator.invokeExact(args);
+                } catch (final Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw constructionFailure(e);
+                }
+            }
+            // Use reflection to get the usual widening conversions or the usual IllegalArgumentException ...
             try {
                 return constructor.newInstance(args);
-            } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException(("Cannot apply constructor:%n" +
-                                                 "     %s%n").formatted(constructor), e);
+            } catch (final InvocationTargetException e) {
+                // the constructor itself failed: the same as above ...
+                if (e.getCause() instanceof final Error cause) {
+                    throw cause;
+                }
+                throw constructionFailure(e);
+            } catch (final InstantiationException | IllegalAccessException e) {
+                throw constructionFailure(e);
             }
         }
 
-        private Map<String, Object> toMap(final T source) {
-            return names.stream()
-                        .collect(LinkedHashMap::new, (map, name) -> put(map, source, name), Map::putAll);
+        private boolean isExact(final Object[] args) {
+            if (args.length != types.length) {
+                return false;
+            }
+            for (int index = 0; index < args.length; ++index) {
+                final Object arg = args[index];
+                if ((null == arg) ? types[index].isPrimitive() : !boxedTypes[index].isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        private void put(final Map<? super String, Object> map, final T source, final String name) {
-            map.put(name, get(source, name));
+        private IllegalStateException constructionFailure(final Throwable cause) {
+            return new IllegalStateException(("Cannot apply constructor:%n" +
+                                              "     %s%n").formatted(constructor), cause);
+        }
+
+        final Map<String, Object> toMap(final T source) {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            for (int index = 0; index < types.length; ++index) {
+                result.put(names.get(index), get(source, index));
+            }
+            return result;
         }
     }
 }
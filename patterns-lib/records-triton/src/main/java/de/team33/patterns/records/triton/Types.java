@@ -0,0 +1,73 @@
+package de.team33.patterns.records.triton;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Utility to reduce generic {@link Type Types}, as declared by record components, to what is relevant for
+ * conversion.
+ */
+final class Types {
+
+    private Types() {
+    }
+
+    /**
+     * Returns the given <em>type</em>, replacing a wildcard or type variable by its (first) upper bound.
+     */
+    static Type normal(final Type type) {
+        if (type instanceof final WildcardType wildcard) {
+            return normal(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof final TypeVariable<?> variable) {
+            return normal(variable.getBounds()[0]);
+        } else {
+            return type;
+        }
+    }
+
+    /**
+     * Returns the raw {@link Class} of the given <em>type</em>.
+     */
+    static Class<?> rawClass(final Type type) {
+        final Type normal = normal(type);
+        if (normal instanceof final Class<?> result) {
+            return result;
+        } else if (normal instanceof final ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        } else if (normal instanceof final GenericArrayType array) {
+            return Array.newInstance(rawClass(array.getGenericComponentType()), 0).getClass();
+        } else {
+            // difficult to test (should not happen at all) ...
+            throw new IllegalArgumentException("unknown kind of type: " + type.getTypeName());
+        }
+    }
+
+    /**
+     * Returns the {@linkplain #normal(Type) normal} type argument at the given <em>index</em> of the given
+     * <em>type</em> or {@link Object Object.class} if the <em>type</em> is not parameterized.
+     */
+    static Type argument(final Type type, final int index) {
+        final Type normal = normal(type);
+        if (normal instanceof final ParameterizedType parameterized) {
+            return normal(parameterized.getActualTypeArguments()[index]);
+        } else {
+            return Object.class;
+        }
+    }
+
+    /**
+     * Returns the {@linkplain #normal(Type) normal} component type of the given array <em>type</em>.
+     */
+    static Type componentType(final Type type) {
+        final Type normal = normal(type);
+        if (normal instanceof final GenericArrayType array) {
+            return normal(array.getGenericComponentType());
+        } else {
+            return rawClass(normal).componentType();
+        }
+    }
+}
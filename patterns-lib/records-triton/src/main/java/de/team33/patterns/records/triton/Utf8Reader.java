@@ -0,0 +1,167 @@
+package de.team33.patterns.records.triton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * A {@link Reader} that decodes UTF-8 encoded bytes, either held completely in a {@code byte[]} or read
+ * successively from an {@link InputStream}.
+ * <p>
+ * Runs of ASCII characters are decoded in a tight loop without any further checks. Malformed input is replaced
+ * by {@code U+FFFD}, as an {@link java.io.InputStreamReader} would do by default.
+ * <p>
+ * An underlying {@link InputStream} is not closed by {@link #close()}.
+ */
+final class Utf8Reader extends Reader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char REPLACEMENT = '\uFFFD';
+    private static final char NO_PENDING = 0;
+
+    private final InputStream in;
+    private final byte[] bytes;
+    private int position;
+    private int limit;
+    private boolean eof;
+    private char pending = NO_PENDING;
+
+    private Utf8Reader(final InputStream in, final byte[] bytes, final int position, final int limit) {
+        this.in = in;
+        this.bytes = bytes;
+        this.position = position;
+        this.limit = limit;
+        this.eof = (null == in);
+    }
+
+    static Utf8Reader of(final byte[] bytes) {
+        return new Utf8Reader(null, bytes, 0, bytes.length);
+    }
+
+    static Utf8Reader of(final InputStream in) {
+        return new Utf8Reader(in, new byte[BUFFER_SIZE], 0, 0);
+    }
+
+    private static boolean isContinuation(final int b) {
+        return 0x80 == (b & 0xC0);
+    }
+
+    private static int sequenceLength(final int lead) {
+        if (0xC2 <= lead && lead <= 0xDF) {
+            return 2;
+        }
+        if (0xE0 <= lead && lead <= 0xEF) {
+            return 3;
+        }
+        if (0xF0 <= lead && lead <= 0xF4) {
+            return 4;
+        }
+        return 1; // malformed lead byte
+    }
+
+    /**
+     * Ensures that at least <em>count</em> bytes are available from the current position, if possible.
+     *
+     * @return {@code true} if the bytes are available.
+     */
+    private boolean require(final int count) throws IOException {
+        while ((limit - position < count) && !eof) {
+            if (0 < position) {
+                System.arraycopy(bytes, position, bytes, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            final int read = in.read(bytes, limit, bytes.length - limit);
+            if (0 > read) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return count <= limit - position;
+    }
+
+    @Override
+    public final int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (0 == len) {
+            return 0;
+        }
+        int index = off;
+        final int end = off + len;
+        if (NO_PENDING != pending) {
+            cbuf[index++] = pending;
+            pending = NO_PENDING;
+        }
+        // blocks for further input only as long as no character has been decoded ...
+        while (index < end && ((position < limit) || ((index == off) && require(1)))) {
+            // fast path: ASCII ...
+            final int stop = Math.min(limit, position + (end - index));
+            while (position < stop && 0 <= bytes[position]) {
+                cbuf[index++] = (char) bytes[position++];
+            }
+            if (index < end && position < limit) {
+                index = decode(cbuf, index, end);
+            }
+        }
+        return (index == off) ? -1 : (index - off);
+    }
+
+    private int decode(final char[] cbuf, final int index, final int end) throws IOException {
+        final int lead = bytes[position] & 0xFF;
+        if (0x80 > lead) {
+            return index;
+        }
+        final int length = sequenceLength(lead);
+        if ((1 == length) || !require(length) || !isValid(lead, length)) {
+            position += 1;
+            cbuf[index] = REPLACEMENT;
+            return index + 1;
+        }
+        final int codePoint = codePoint(lead, length);
+        position += length;
+        if ((Character.MIN_SURROGATE <= codePoint) && (codePoint <= Character.MAX_SURROGATE)) {
+            // an encoded surrogate is malformed as a whole ...
+            cbuf[index] = REPLACEMENT;
+            return index + 1;
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            cbuf[index] = (char) codePoint;
+            return index + 1;
+        }
+        cbuf[index] = Character.highSurrogate(codePoint);
+        if (index + 1 < end) {
+            cbuf[index + 1] = Character.lowSurrogate(codePoint);
+            return index + 2;
+        }
+        // no more room: the low surrogate is delivered with the next read ...
+        pending = Character.lowSurrogate(codePoint);
+        return index + 1;
+    }
+
+    private boolean isValid(final int lead, final int length) {
+        final int second = bytes[position + 1] & 0xFF;
+        // excludes overlong encodings and code points beyond U+10FFFF ...
+        if ((0xE0 == lead && second < 0xA0) || (0xF0 == lead && second < 0x90) || (0xF4 == lead && second > 0x8F)) {
+            return false;
+        }
+        for (int offset = 1; offset < length; ++offset) {
+            if (!isContinuation(bytes[position + offset])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int codePoint(final int lead, final int length) {
+        int result = lead & (0xFF >> (length + 1));
+        for (int offset = 1; offset < length; ++offset) {
+            result = (result << 6) | (bytes[position + offset] & 0x3F);
+        }
+        return result;
+    }
+
+    @Override
+    public final void close() {
+        // the underlying stream (if any) is not closed
+    }
+}
@@ -1,10 +1,42 @@
 package de.team33.patterns.records.triton;
 
+import java.util.Map;
+
 final class Util {
 
+    private static final Map<Class<?>, Class<?>> BOXED = Map.of(boolean.class, Boolean.class,
+                                                                byte.class, Byte.class,
+                                                                short.class, Short.class,
+                                                                int.class, Integer.class,
+                                                                long.class, Long.class,
+                                                                float.class, Float.class,
+                                                                double.class, Double.class,
+                                                                char.class, Character.class,
+                                                                void.class, Void.class);
+
     private Util() {
     }
 
+    /**
+     * Returns the wrapper class of the given <em>type</em>, if it is primitive, otherwise the <em>type</em> itself.
+     */
+    static Class<?> boxed(final Class<?> type) {
+        return type.isPrimitive() ? BOXED.get(type) : type;
+    }
+
+    /**
+     * Returns the given <em>key</em> of a {@link Map} as the name of a JSON object member.
+     *
+     * @throws IllegalArgumentException if the <em>key</em> is not a {@link String}.
+     */
+    static String memberName(final Object key) {
+        if (key instanceof final String result) {
+            return result;
+        }
+        throw new IllegalArgumentException(
+                "illegal map key: %s - expected: %s".formatted(typeName(key), String.class.getCanonicalName()));
+    }
+
     @SuppressWarnings("ReturnOfNull")
     static String typeName(final Object obj) {
         return (null == obj) ? null : obj.getClass().getCanonicalName();
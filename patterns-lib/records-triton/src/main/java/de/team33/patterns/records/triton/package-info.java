@@ -5,6 +5,7 @@
  * <ul>
  *     <li>{@linkplain java.lang.Record Records} and JSON-formatted {@linkplain java.lang.String Strings}</li>
  *     <li>{@linkplain java.lang.Record Records} and {@linkplain java.util.Map Map} representations</li>
+ *     <li>Pairs of {@linkplain java.lang.Record records} and their differences as <em>JSON Merge Patches</em></li>
  * </ul>
  * <p>
  * For the sake of simplicity, JSON conversion supports only records whose native component types are:
@@ -16,9 +17,19 @@
  *     <li>{@linkplain java.lang.Enum Enums}</li>
  *     <li>Records that comply with these restrictions</li>
  *     <li>Arrays whose elements comply with these restrictions</li>
+ *     <li>{@linkplain java.util.List Lists}, {@linkplain java.util.Set Sets} and
+ *     {@linkplain java.util.Collection Collections} whose elements comply with these restrictions</li>
+ *     <li>{@linkplain java.util.Map Maps} with {@link java.lang.String} keys whose values comply with these
+ *     restrictions</li>
+ *     <li>{@linkplain java.util.Optional Optionals} whose content complies with these restrictions</li>
  *     <li><em>Stringable</em>* types</li>
  * </ul>
  * <p>
+ * The element types of collections, maps and optionals are taken from the generic type of the record component,
+ * e.g. {@code List<String>}. When parsing, they are bound to unmodifiable instances that keep the order of
+ * the JSON elements or members. An empty {@link java.util.Optional} is rendered like {@code null}, and a
+ * {@code null} or absent value is parsed as an empty {@link java.util.Optional}.
+ * <p>
  * A <em>Stringable</em>* type in this context is a type that declares either ...
  * <ul>
  *     <li>a public constructor that takes a single {@link java.lang.String} or {@link java.lang.CharSequence}
@@ -40,10 +51,18 @@
  * {@link java.lang.Object#toString() toString()} implementation cannot actually be applied to their respective
  * initialization method.
  * <p>
+ * Some common value types of the JDK are supported out of the box by built-in codecs, regardless of the above:
+ * the {@link java.time} types {@link java.time.Instant Instant}, {@link java.time.LocalDate LocalDate},
+ * {@link java.time.LocalTime LocalTime}, {@link java.time.LocalDateTime LocalDateTime},
+ * {@link java.time.OffsetDateTime OffsetDateTime}, {@link java.time.ZonedDateTime ZonedDateTime},
+ * {@link java.time.Duration Duration}, {@link java.time.Period Period} and {@link java.time.ZoneId ZoneId}
+ * as well as {@link java.util.UUID UUID}, {@link java.net.URI URI} and {@link java.nio.file.Path Path}.
+ * <p>
  * But there's a solution for these cases too: you can set up support for virtually any type using
  * {@link de.team33.patterns.records.triton.Triton#setup(java.lang.Class, java.util.function.UnaryOperator)}.
  *
  * @see de.team33.patterns.records.triton.Triton
+ * @see de.team33.patterns.records.triton.Serializer
  * @see <a href="https://de.wikipedia.org/wiki/Triton_(Mond)" target="_blank">Triton (Mond)</a>
  * @see <a href="https://de.wikipedia.org/wiki/Triton_(Mythologie)" target="_blank">Triton (Mythologie)</a>
  */
@@ -0,0 +1,49 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryEncoderTest {
+
+    private static String encode(final Record source) {
+        return Arrays.toString(BinaryEncoder.encode(source, Triton.reflector(source.getClass())));
+    }
+
+    @Test
+    final void encode_record() {
+        final String expected = Arrays.toString(new byte[]{BinaryFormat.RECORD,
+                1, BinaryFormat.LONG, 1,
+                2, BinaryFormat.STRING, 2, (byte) 0xC3, (byte) 0xA9,
+                BinaryFormat.END});
+
+        assertEquals(expected, encode(new Small(-1, "\u00E9", null)));
+    }
+
+    @Test
+    final void encode_varint() {
+        final String expected = Arrays.toString(new byte[]{BinaryFormat.RECORD,
+                1, BinaryFormat.LONG, (byte) 0xAC, 0x02,
+                BinaryFormat.END});
+
+        assertEquals(expected, encode(new Small(150, null, null)));
+    }
+
+    @Test
+    final void encode_string() {
+        final String value = "a\u00E9\u20AC\uD83D\uDE00\uD800b";
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        final byte[] prefix = {BinaryFormat.RECORD, 1, BinaryFormat.LONG, 0, 2, BinaryFormat.STRING,
+                (byte) utf8.length};
+        final byte[] expected = Arrays.copyOf(prefix, prefix.length + utf8.length + 1);
+        System.arraycopy(utf8, 0, expected, prefix.length, utf8.length);
+
+        assertEquals(Arrays.toString(expected), encode(new Small(0, value, null)));
+    }
+
+    private record Small(long number, String text, Object other) {
+    }
+}
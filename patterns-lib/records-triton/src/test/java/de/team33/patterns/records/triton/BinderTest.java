@@ -0,0 +1,123 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinderTest {
+
+    private static final Triton.Reflector<Components> COMPONENTS = Triton.reflector(Components.class);
+    private static final Map<Class<?>, String> PRIMITIVE_DEFAULTS = Map.of(boolean.class, "false",
+                                                                           char.class, "\"c\"",
+                                                                           byte.class, "0",
+                                                                           short.class, "0",
+                                                                           int.class, "0",
+                                                                           long.class, "0",
+                                                                           float.class, "0",
+                                                                           double.class, "0");
+
+    static Stream<ResolverTest.MapCase> bindCases() {
+        return ResolverTest.parseCases();
+    }
+
+    static Stream<ResolverTest.FailCase> failCases() {
+        return ResolverTest.failCases();
+    }
+
+    private static List<Object> toList(final Object array) {
+        final int length = Array.getLength(array);
+        final List<Object> result = new ArrayList<>(length);
+        for (int index = 0; index < length; ++index) {
+            result.add(Array.get(array, index));
+        }
+        return result;
+    }
+
+    /**
+     * Binds the given <em>json</em> to the given <em>targetType</em>: a record type directly, any other type as
+     * the matching component of {@link Components}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Object bind(final Class<?> targetType, final String json) {
+        if (targetType.isRecord()) {
+            return Binder.bind(Triton.reflector((Class) targetType), json);
+        }
+        final int target = IntStream.range(0, COMPONENTS.size())
+                                    .filter(index -> targetType == COMPONENTS.type(index))
+                                    .findAny()
+                                    .orElseThrow();
+        // primitive components must be present, any others may be absent ...
+        final String members = IntStream.range(0, COMPONENTS.size())
+                                        .filter(index -> (target == index) || COMPONENTS.type(index).isPrimitive())
+                                        .mapToObj(index -> member(index, (target == index) ? json : null))
+                                        .collect(Collectors.joining(", ", "{", "}"));
+        return COMPONENTS.get((Record) Binder.bind(COMPONENTS, members), target);
+    }
+
+    private static String member(final int index, final String json) {
+        final String value = (null == json) ? PRIMITIVE_DEFAULTS.get(COMPONENTS.type(index)) : json;
+        return "\"%s\" : %s".formatted(COMPONENTS.name(index), value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("bindCases")
+    final void bind(final ResolverTest.MapCase given) {
+        final Object result = bind(given.targetClass(), given.source());
+        if (given.targetClass().isArray()) {
+            assertEquals(toList(given.expected()), toList(result));
+        } else {
+            assertEquals(given.expected(), result);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("failCases")
+    final void bind_fail(final ResolverTest.FailCase given) {
+        assertThrows(given.expected(), () -> bind(given.rClass(), given.source()));
+    }
+
+    @Test
+    final void bind_nested_array() {
+        final String json = "[ [ {\"name\" : \"a\"}, null ], [], null ] ";
+        final SampleRecord[][] expected = {{new SampleRecord("a", null, null), null}, {}, null};
+
+        final Object result = bind(SampleRecord[][].class, json);
+
+        assertEquals(List.of(toList(expected[0]), toList(expected[1])),
+                     List.of(toList(((Object[]) result)[0]), toList(((Object[]) result)[1])));
+        assertNull(((Object[]) result)[2]);
+    }
+
+    @Test
+    final void bind_fail_syntax() {
+        final Triton.Reflector<SampleRecord> reflector = Triton.reflector(SampleRecord.class);
+        assertThrows(IllegalArgumentException.class, () -> Binder.bind(reflector, "{\"name\" : \"a\"} }"));
+        assertThrows(IllegalArgumentException.class, () -> Binder.bind(reflector, "{\"unknown\" : [1, 2}"));
+    }
+
+    @SuppressWarnings("unused")
+    private record Components(boolean aBoolean, Boolean boxedBoolean, byte aByte, Byte boxedByte,
+                              short aShort, Short boxedShort, int anInt, Integer boxedInt,
+                              long aLong, Long boxedLong, float aFloat, Float boxedFloat,
+                              double aDouble, Double boxedDouble, char aChar, Character boxedChar,
+                              BigInteger bigInteger, BigDecimal bigDecimal, String string, EnumSample enumSample,
+                              List<?> list, boolean[] booleans, Boolean[] boxedBooleans, byte[] bytes,
+                              short[] shorts, int[] ints, Integer[] boxedInts, long[] longs, float[] floats,
+                              double[] doubles, char[] chars, Character[] boxedChars, String[] strings,
+                              SampleRecord[][] samples) {
+    }
+}
@@ -7,9 +7,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GeneralizerTest {
@@ -19,23 +22,32 @@ class GeneralizerTest {
                          new Case<>(false, new JsonBoolean(false)),
                          new Case<>(Boolean.TRUE, new JsonBoolean(true)),
                          new Case<>(Boolean.FALSE, new JsonBoolean(false)),
-                         new Case<>((byte) 16, new JsonNumber(BigDecimal.valueOf(16))),
-                         new Case<>((short) 17, new JsonNumber(BigDecimal.valueOf(17))),
-                         new Case<>(18, new JsonNumber(BigDecimal.valueOf(18))),
-                         new Case<>(19L, new JsonNumber(BigDecimal.valueOf(19))),
-                         new Case<>(1.414f, new JsonNumber(new BigDecimal("1.414"))),
+                         new Case<>((byte) 16, JsonNumber.of(BigDecimal.valueOf(16))),
+                         new Case<>((short) 17, JsonNumber.of(BigDecimal.valueOf(17))),
+                         new Case<>(18, JsonNumber.of(BigDecimal.valueOf(18))),
+                         new Case<>(19L, JsonNumber.of(BigDecimal.valueOf(19))),
+                         new Case<>(1.414f, JsonNumber.of(new BigDecimal("1.414"))),
                          new Case<>(new BigInteger("97531086429630741852"),
-                                    new JsonNumber(new BigDecimal("97531086429630741852"))),
-                         new Case<>(3.141592654, new JsonNumber(new BigDecimal("3.141592654"))),
-                         new Case<>(new BigDecimal("3.141592654"), new JsonNumber(new BigDecimal("3.141592654"))),
+                                    JsonNumber.of(new BigDecimal("97531086429630741852"))),
+                         new Case<>(3.141592654, JsonNumber.of(new BigDecimal("3.141592654"))),
+                         new Case<>(new BigDecimal("3.141592654"), JsonNumber.of(new BigDecimal("3.141592654"))),
                          new Case<>(EnumSample.V3, new JsonString("V3")),
                          new Case<>('c', new JsonString("c")),
                          new Case<>("any string", new JsonString("any string")),
                          new Case<>(new int[]{1, 2, 3}, JsonArray.builder()
-                                                                 .add(new JsonNumber(new BigDecimal(1)))
-                                                                 .add(new JsonNumber(new BigDecimal(2)))
-                                                                 .add(new JsonNumber(new BigDecimal(3)))
+                                                                 .add(JsonNumber.of(new BigDecimal(1)))
+                                                                 .add(JsonNumber.of(new BigDecimal(2)))
+                                                                 .add(JsonNumber.of(new BigDecimal(3)))
                                                                  .build()),
+                         new Case<>(List.of("a", "b"), JsonArray.builder()
+                                                               .add(new JsonString("a"))
+                                                               .add(new JsonString("b"))
+                                                               .build()),
+                         new Case<>(Map.of("key", 5), JsonObject.builder()
+                                                               .put("key", JsonNumber.of(new BigDecimal(5)))
+                                                               .build()),
+                         new Case<>(Optional.of("any string"), new JsonString("any string")),
+                         new Case<>(Optional.empty(), JsonValue.NULL),
                          new Case<>(new SampleRecord(null, null, null),
                                     JsonObject.builder()
                                               .put("name", JsonValue.NULL)
@@ -46,7 +58,24 @@ class GeneralizerTest {
 
     @Test
     final void map_fail() {
-        assertThrows(IllegalArgumentException.class, () -> Generalizer.map(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> Generalizer.map(new Object()));
+    }
+
+    @Test
+    final void map_fail_key() {
+        assertThrows(IllegalArgumentException.class, () -> Generalizer.map(Map.of(1, "one")));
+    }
+
+    @Test
+    final void of_cached() {
+        assertSame(Generalizer.of(SampleRecord.class), Generalizer.of(SampleRecord.class));
+        assertSame(Generalizer.of(List.class), Generalizer.of(List.class));
+    }
+
+    @Test
+    final void of_unsupported() {
+        final Generalizer generalizer = Generalizer.of(Object.class);
+        assertThrows(IllegalArgumentException.class, () -> generalizer.apply(new Object()));
     }
 
     @ParameterizedTest
@@ -0,0 +1,61 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoInstantTest {
+
+    static Stream<Instant> instants() {
+        final Random random = new Random(278);
+        final Stream<Instant> fixed = Stream.of(Instant.EPOCH,
+                                                Instant.ofEpochSecond(-1),
+                                                Instant.ofEpochSecond(-1, 999_999_999),
+                                                Instant.parse("0000-01-01T00:00:00Z"),
+                                                Instant.parse("9999-12-31T23:59:59.999999999Z"),
+                                                Instant.parse("2000-02-29T12:00:00.100Z"),
+                                                Instant.parse("2024-01-02T03:04:05.000678Z"),
+                                                Instant.parse("-0001-12-31T23:59:59Z"),
+                                                Instant.parse("+10000-01-01T00:00:00Z"),
+                                                Instant.MIN,
+                                                Instant.MAX);
+        final Stream<Instant> randoms = Stream.generate(() -> Instant.ofEpochSecond(
+                random.nextLong(-62_167_219_200L, 253_402_300_800L), random.nextInt(1_000_000_000))).limit(1000);
+        return Stream.concat(fixed, randoms);
+    }
+
+    @ParameterizedTest
+    @MethodSource("instants")
+    final void format(final Instant instant) {
+        assertEquals(instant.toString(), IsoInstant.format(instant));
+    }
+
+    @ParameterizedTest
+    @MethodSource("instants")
+    final void parse(final Instant instant) {
+        assertEquals(instant, IsoInstant.parse(instant.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-01-02T03:04:05.1Z", "2024-01-02T03:04:05.12345Z", "2016-12-31T23:59:60Z",
+            "2024-01-02T03:04:05+01:00", "2024-01-02t03:04:05z", "2024-01-02T24:00:00Z",
+            "2024-01-02T03:04:05.Z"})
+    final void parse_other(final String text) {
+        assertEquals(Instant.parse(text), IsoInstant.parse(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2024-02-30T00:00:00Z", "2024-01-02T25:00:00Z", "2024-01-02T03:04:05.1234567890Z",
+            "2024-01-02 03:04:05Z", "2024-1-02T03:04:05Z"})
+    final void parse_fail(final String text) {
+        assertThrows(DateTimeException.class, () -> IsoInstant.parse(text));
+    }
+}
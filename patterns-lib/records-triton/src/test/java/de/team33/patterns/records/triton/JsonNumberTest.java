@@ -0,0 +1,163 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonNumberTest {
+
+    static Stream<String> literals() {
+        return Stream.of("0", "-0", "1", "-1", "278", "123456789012345678", "-123456789012345678",
+                         "1234567890123456789", "-9223372036854775808", "97531086429630741852",
+                         "3.141592654", "-123.45", "1E5", "1e+5", "-1.2e-5", "0.123E1234", "2.0");
+    }
+
+    static Stream<String> decimalLiterals() {
+        return Stream.concat(literals(),
+                             Stream.of("-0.0", "0.1", "0.000123", "1.5", "-2.5e3", "1e22", "1e23", "1e-22",
+                                       "123456789012345", "1234567890123456", "0.30000000000000004",
+                                       "16777217", "1.17549435E-38", "3.4028235E38", "9.999999e9", "1e0",
+                                       "1E-0", "100e-2", "12345.6789e-3", "1e0001", "1e-1000"));
+    }
+
+    private static JsonNumber.Decimal scan(final String literal) {
+        final char[] chars = ("[" + literal + "]").toCharArray();
+        return new JsonNumber.Decimal().scan(chars, 1, literal.length());
+    }
+
+    private static Object longValueExact(final JsonNumber number) {
+        try {
+            return number.longValueExact();
+        } catch (final ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object longValueExact(final JsonNumber.Decimal decimal) {
+        try {
+            return decimal.longValueExact();
+        } catch (final ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    private static JsonNumber parse(final String literal) {
+        final char[] chars = ("[" + literal + "]").toCharArray();
+        return JsonNumber.parse(chars, 1, literal.length());
+    }
+
+    @ParameterizedTest
+    @MethodSource("literals")
+    final void parse_bigDecimalValue(final String literal) {
+        assertEquals(new BigDecimal(literal), parse(literal).bigDecimalValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("literals")
+    final void parse_equals(final String literal) {
+        final JsonNumber expected = JsonNumber.of(new BigDecimal(literal));
+        final JsonNumber result = parse(literal);
+        assertEquals(expected, result);
+        assertEquals(expected.hashCode(), result.hashCode());
+    }
+
+    @ParameterizedTest
+    @MethodSource("literals")
+    final void parse_doubleValue(final String literal) {
+        final BigDecimal expected = new BigDecimal(literal);
+        assertEquals(expected.doubleValue(), parse(literal).doubleValue());
+        assertEquals(expected.floatValue(), parse(literal).floatValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimalLiterals")
+    final void decimal(final String literal) {
+        final JsonNumber expected = parse(literal);
+        final JsonNumber.Decimal result = scan(literal);
+        assertEquals(longValueExact(expected), longValueExact(result));
+        assertEquals(expected.doubleValue(), result.doubleValue());
+        assertEquals(expected.floatValue(), result.floatValue());
+    }
+
+    @Test
+    final void decimal_random() {
+        final Random random = new Random(278);
+        final JsonNumber.Decimal decimal = new JsonNumber.Decimal();
+        for (int count = 0; count < 100_000; ++count) {
+            final String literal = switch (count % 4) {
+                case 0 -> Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+                case 1 -> Float.toString(random.nextFloat() * (float) Math.pow(10, random.nextInt(20) - 10));
+                case 2 -> BigDecimal.valueOf(random.nextLong() % 10_000_000_000L, random.nextInt(12)).toString();
+                default -> Long.toString(random.nextLong() >> random.nextInt(64));
+            };
+            final char[] chars = literal.toCharArray();
+            final JsonNumber expected = JsonNumber.parse(chars, 0, chars.length);
+            decimal.scan(chars, 0, chars.length);
+            assertEquals(expected.doubleValue(), decimal.doubleValue(), literal);
+            assertEquals(expected.floatValue(), decimal.floatValue(), literal);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, 127L, -128L, 32767L, -32768L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Long.MAX_VALUE, Long.MIN_VALUE})
+    final void of_long(final long value) {
+        final JsonNumber result = JsonNumber.of(value);
+        assertEquals(value, result.longValueExact());
+        assertEquals(BigDecimal.valueOf(value), result.bigDecimalValue());
+        assertEquals(BigInteger.valueOf(value), result.bigIntegerValueExact());
+        assertEquals(Long.toString(value), result.literal());
+        assertEquals(JsonNumber.of(BigDecimal.valueOf(value)), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.0, -1.0, 3.141592654, -123.45, 1.0E10, 1.0E-5, 9.223372036854776E18})
+    final void of_double(final double value) {
+        final JsonNumber result = JsonNumber.of(value);
+        assertEquals(value, result.doubleValue());
+        assertEquals(new BigDecimal(Double.toString(value)), result.bigDecimalValue());
+        assertEquals(value, Double.parseDouble(result.literal()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    final void of_double_fail(final double value) {
+        assertThrows(IllegalArgumentException.class, () -> JsonNumber.of(value));
+    }
+
+    @Test
+    final void valueExact() {
+        assertEquals((byte) -128, JsonNumber.of(-128L).byteValueExact());
+        assertEquals((short) 32767, JsonNumber.of(32767L).shortValueExact());
+        assertEquals(Integer.MIN_VALUE, JsonNumber.of((long) Integer.MIN_VALUE).intValueExact());
+        assertEquals(3L, JsonNumber.of(3.0).longValueExact());
+        assertEquals(3L, parse("3.00").longValueExact());
+    }
+
+    @Test
+    final void valueExact_fail() {
+        assertThrows(ArithmeticException.class, () -> JsonNumber.of(128L).byteValueExact());
+        assertThrows(ArithmeticException.class, () -> JsonNumber.of(-32769L).shortValueExact());
+        assertThrows(ArithmeticException.class, () -> JsonNumber.of(1L + Integer.MAX_VALUE).intValueExact());
+        assertThrows(ArithmeticException.class, () -> JsonNumber.of(3.5).longValueExact());
+        assertThrows(ArithmeticException.class, () -> JsonNumber.of(9.223372036854776E18).longValueExact());
+        assertThrows(ArithmeticException.class, () -> parse("9223372036854775808").longValueExact());
+        assertThrows(ArithmeticException.class, () -> parse("1.5").bigIntegerValueExact());
+    }
+
+    @Test
+    final void equals_scale() {
+        assertNotEquals(JsonNumber.of(2L), JsonNumber.of(2.0));
+        assertNotEquals(JsonNumber.of(2L), parse("2.0"));
+    }
+}
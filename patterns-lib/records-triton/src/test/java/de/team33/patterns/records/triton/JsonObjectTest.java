@@ -3,6 +3,8 @@ package de.team33.patterns.records.triton;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class JsonObjectTest {
 
@@ -19,4 +21,18 @@ class JsonObjectTest {
         assertEquals("name2", object.get(1).name());
         assertEquals(JsonValue.NULL, object.get(1).value());
     }
+
+    @Test
+    final void get_name() {
+        final JsonObject object = JsonObject.builder()
+                                            .put("name1", new JsonString("value1"))
+                                            .put("name2", JsonValue.NULL)
+                                            .put("name3", JsonNumber.of(278L))
+                                            .put("name1", new JsonString("value3"))
+                                            .build();
+        assertEquals(new JsonString("value3"), object.get("name1"));
+        assertSame(JsonValue.NULL, object.get("name2"));
+        assertEquals(JsonNumber.of(278L), object.get("name3"));
+        assertNull(object.get("name4"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameIndexTest {
+
+    private static List<String> names(final int size) {
+        return IntStream.range(0, size)
+                        .mapToObj(index -> "component" + index)
+                        .toList();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 31, 150, 200, 255, 1000})
+    final void indexOf(final int size) {
+        final List<String> names = names(size);
+        final NameIndex index = NameIndex.of(names);
+        assertTrue(index.isPerfect());
+        for (int expected = 0; expected < size; ++expected) {
+            // a copy of the name must be found as well ...
+            assertEquals(expected, index.indexOf(new String(names.get(expected))));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 31, 150, 200, 255, 1000})
+    final void indexOf_unknown(final int size) {
+        final NameIndex index = NameIndex.of(names(size));
+        assertEquals(-1, index.indexOf("unknown"));
+        assertEquals(-1, index.indexOf("component" + size));
+        assertEquals(-1, index.indexOf(""));
+    }
+
+    @Test
+    final void indexOf_colliding() {
+        // "Aa" and "BB" have the same hash code ...
+        final NameIndex index = NameIndex.of(List.of("Aa", "BB", "AaAa", "BBBB", "AaBB"));
+        assertFalse(index.isPerfect());
+        assertEquals(0, index.indexOf("Aa"));
+        assertEquals(1, index.indexOf("BB"));
+        assertEquals(4, index.indexOf("AaBB"));
+        assertEquals(-1, index.indexOf("BBAa"));
+    }
+
+    @Test
+    final void of_duplicates() {
+        assertThrows(IllegalArgumentException.class, () -> NameIndex.of(List.of("a", "b", "a")));
+    }
+}
@@ -3,10 +3,12 @@ package de.team33.patterns.records.triton;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ParserTest {
@@ -16,16 +18,16 @@ class ParserTest {
                          new ParseCase(" \n\t null \r\f", JsonValue.NULL),
                          new ParseCase(" true", new JsonBoolean(true)),
                          new ParseCase("false ", new JsonBoolean(false)),
-                         new ParseCase("1", new JsonNumber(BigDecimal.ONE)),
-                         new ParseCase("278", new JsonNumber(BigDecimal.valueOf(278))),
+                         new ParseCase("1", JsonNumber.of(BigDecimal.ONE)),
+                         new ParseCase("278", JsonNumber.of(BigDecimal.valueOf(278))),
                          new ParseCase(" 123456789.123456789",
-                                       new JsonNumber(new BigDecimal("123456789.123456789"))),
-                         new ParseCase(" 0.123E1234  ", new JsonNumber(new BigDecimal("0.123E1234"))),
-                         new ParseCase("-1", new JsonNumber(BigDecimal.valueOf(-1))),
-                         new ParseCase("0", new JsonNumber(BigDecimal.valueOf(0))),
-                         new ParseCase("-123.45", new JsonNumber(BigDecimal.valueOf(-123.45))),
-                         new ParseCase("1E5", new JsonNumber(new BigDecimal("1E5"))),
-                         new ParseCase("-1.2e-5", new JsonNumber(new BigDecimal("-1.2e-5"))),
+                                       JsonNumber.of(new BigDecimal("123456789.123456789"))),
+                         new ParseCase(" 0.123E1234  ", JsonNumber.of(new BigDecimal("0.123E1234"))),
+                         new ParseCase("-1", JsonNumber.of(BigDecimal.valueOf(-1))),
+                         new ParseCase("0", JsonNumber.of(BigDecimal.valueOf(0))),
+                         new ParseCase("-123.45", JsonNumber.of(BigDecimal.valueOf(-123.45))),
+                         new ParseCase("1E5", JsonNumber.of(new BigDecimal("1E5"))),
+                         new ParseCase("-1.2e-5", JsonNumber.of(new BigDecimal("-1.2e-5"))),
                          new ParseCase(" \" abc \" ", new JsonString(" abc ")),
                          new ParseCase("\t \"\\\\\\\"\\b\\f\\n\\r\\t\" \n",
                                        new JsonString("\\\"\b\f\n\r\t")),
@@ -36,7 +38,7 @@ class ParserTest {
                                                 .add(new JsonString("a"))
                                                 .add(new JsonBoolean(true))
                                                 .add(JsonValue.NULL)
-                                                .add(new JsonNumber(new BigDecimal("1.23")))
+                                                .add(JsonNumber.of(new BigDecimal("1.23")))
                                                 .add(JsonObject.builder()
                                                                .put("name", new JsonString("value"))
                                                                .build())
@@ -51,9 +53,9 @@ class ParserTest {
                                                  .put("name2", new JsonString("value2"))
                                                  .put("name3",
                                                       JsonArray.builder()
-                                                               .add(new JsonNumber(BigDecimal.valueOf(1)))
-                                                               .add(new JsonNumber(BigDecimal.valueOf(2)))
-                                                               .add(new JsonNumber(BigDecimal.valueOf(3)))
+                                                               .add(JsonNumber.of(BigDecimal.valueOf(1)))
+                                                               .add(JsonNumber.of(BigDecimal.valueOf(2)))
+                                                               .add(JsonNumber.of(BigDecimal.valueOf(3)))
                                                                .build())
                                                  .build()));
     }
@@ -101,6 +103,83 @@ class ParserTest {
         }
     }
 
+    static Stream<MessageCase> messageCases() {
+        return Stream.of(new MessageCase("", "unexpected end of source text at index 0"),
+                         new MessageCase("[1,2", "unexpected end of source text at index 4"),
+                         new MessageCase("{\"a\" 1}", "expected ':' - but was '1' at index 5"),
+                         new MessageCase("nul", "expected null - but was nul"),
+                         new MessageCase("[truex]", "expected one of {true, false} - but was truex"),
+                         new MessageCase("[1, 01]", "expected Json number - but was 01"),
+                         new MessageCase("-1.2e-", "expected Json number - but was -1.2e-"),
+                         new MessageCase("1 2", "expected end of source text at index 2"),
+                         new MessageCase("{1 : 2}", "expected a value of type JsonString - but was JsonNumber"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parseCases")
+    final void parse_chars(final ParseCase given) {
+        final JsonValue result = Parser.parse(given.source.toCharArray());
+        assertEquals(given.expected, result);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parseCases")
+    final void parse_reader(final ParseCase given) {
+        final JsonValue result = Parser.parse(new TricklingReader(given.source));
+        assertEquals(given.expected, result);
+    }
+
+    @ParameterizedTest
+    @MethodSource("failCases")
+    final void parse_reader_fail(final String given) {
+        assertThrows(IllegalArgumentException.class, () -> Parser.parse(new TricklingReader(given)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("messageCases")
+    final void parse_message(final MessageCase given) {
+        final IllegalArgumentException result =
+                assertThrows(IllegalArgumentException.class, () -> Parser.parse(given.source));
+        assertEquals(given.expected, result.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("messageCases")
+    final void parse_reader_message(final MessageCase given) {
+        final IllegalArgumentException result =
+                assertThrows(IllegalArgumentException.class, () -> Parser.parse(new TricklingReader(given.source)));
+        assertEquals(given.expected, result.getMessage());
+    }
+
     record ParseCase(String source, JsonValue expected) {
     }
+
+    record MessageCase(String source, String expected) {
+    }
+
+    /**
+     * A {@link Reader} that provides at most one character per read operation.
+     */
+    private static final class TricklingReader extends Reader {
+
+        private final String source;
+        private int index;
+
+        private TricklingReader(final String source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) {
+            if (index < source.length()) {
+                buffer[offset] = source.charAt(index++);
+                return 1;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReflectorTest {
+
+    private static final Triton.Reflector<Primes> PRIMES = Triton.reflector(Primes.class);
+
+    @Test
+    final void get() {
+        final Primes sample = new Primes((byte) 1, (short) 2, 3, 4L, 5.5, 'c', "string");
+        for (int index = 0; index < PRIMES.size(); ++index) {
+            assertEquals(Triton.toMap(sample).get(PRIMES.name(index)), PRIMES.get(sample, index));
+        }
+    }
+
+    @Test
+    final void getLong() {
+        final Primes sample = new Primes((byte) -1, (short) -2, -3, Long.MIN_VALUE, 5.5, 'c', "string");
+        assertEquals(-1L, PRIMES.getLong(sample, 0));
+        assertEquals(-2L, PRIMES.getLong(sample, 1));
+        assertEquals(-3L, PRIMES.getLong(sample, 2));
+        assertEquals(Long.MIN_VALUE, PRIMES.getLong(sample, 3));
+    }
+
+    @Test
+    final void isIntegral() {
+        for (int index = 0; index < 4; ++index) {
+            assertTrue(PRIMES.isIntegral(index));
+        }
+        for (int index = 4; index < PRIMES.size(); ++index) {
+            assertFalse(PRIMES.isIntegral(index));
+        }
+    }
+
+    @Test
+    final void newInstance() {
+        final Primes expected = new Primes((byte) 1, (short) 2, 3, 4L, 5.5, 'c', "string");
+        final Primes result = PRIMES.newInstance(new Object[]{(byte) 1, (short) 2, 3, 4L, 5.5, 'c', "string"});
+        assertEquals(expected, result);
+    }
+
+    @Test
+    final void newInstance_widening() {
+        final Primes expected = new Primes((byte) 1, (short) 2, 3, 4L, 5.0, 'c', null);
+        final Primes result = PRIMES.newInstance(new Object[]{(byte) 1, (byte) 2, (short) 3, 4, 5, 'c', null});
+        assertEquals(expected, result);
+    }
+
+    @Test
+    final void newInstance_mismatch() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> PRIMES.newInstance(new Object[]{null, null, null, null, null, null, null}));
+        assertThrows(IllegalArgumentException.class,
+                     () -> PRIMES.newInstance(new Object[]{(byte) 1, (short) 2, 3, 4L, 5.5, 'c', 6}));
+    }
+
+    @Test
+    final void newInstance_failing() {
+        final Map<String, Object> stage = new HashMap<>();
+        stage.put("value", -1);
+        assertThrows(IllegalStateException.class, () -> Triton.toRecord(Failing.class, stage));
+
+        // not exact, so the constructor is applied by reflection ...
+        stage.put("value", (byte) -1);
+        assertThrows(IllegalStateException.class, () -> Triton.toRecord(Failing.class, stage));
+    }
+
+    @Test
+    final void newInstance_error() {
+        final Map<String, Object> stage = new HashMap<>();
+        stage.put("value", 1);
+        assertThrows(StackOverflowError.class, () -> Triton.toRecord(Erroneous.class, stage));
+
+        stage.put("value", (byte) 1);
+        assertThrows(StackOverflowError.class, () -> Triton.toRecord(Erroneous.class, stage));
+    }
+
+    @Test
+    final void get_failing() {
+        final Failing sample = new Failing(0);
+        assertThrows(IllegalStateException.class, () -> Triton.toMap(sample));
+        assertThrows(IllegalStateException.class, () -> Triton.toJson(sample));
+    }
+
+    @Test
+    final void get_error() {
+        final Erroneous sample = new Erroneous(0);
+        assertThrows(StackOverflowError.class, () -> Triton.toMap(sample));
+        assertThrows(StackOverflowError.class, () -> Triton.toJson(sample));
+    }
+
+    @Test
+    final void resolveAll_recursive() {
+        final Triton.Reflector<Node> reflector = Triton.reflector(Node.class);
+        final Node sample = new Node("root", new Node("next", null, List.of(), Map.of()),
+                                     List.of(new Leaf(1)), Map.of("key", Optional.of(new Leaf(2))));
+
+        assertSame(reflector, reflector.resolveAll());
+        assertSame(reflector, reflector.nested(1));
+        assertEquals(sample, Triton.toRecord(Node.class, Triton.toJson(sample)));
+    }
+
+    record Primes(byte bValue, short sValue, int iValue, long lValue, double dValue, char cValue, String string) {
+    }
+
+    record Failing(int value) {
+
+        Failing {
+            if (0 > value) {
+                throw new IllegalArgumentException("negative value: " + value);
+            }
+        }
+
+        @Override
+        public int value() {
+            throw new UnsupportedOperationException("not accessible");
+        }
+    }
+
+    record Erroneous(int value) {
+
+        Erroneous {
+            if (0 < value) {
+                throw new StackOverflowError("simulated");
+            }
+        }
+
+        @Override
+        public int value() {
+            throw new StackOverflowError("simulated");
+        }
+    }
+
+    record Node(String name, Node next, List<Leaf> leaves, Map<String, Optional<Leaf>> byName) {
+    }
+
+    record Leaf(int value) {
+    }
+}
@@ -1,14 +1,22 @@
 package de.team33.patterns.records.triton;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class RendererTest {
 
@@ -16,15 +24,15 @@ class RendererTest {
         return Stream.of(JsonValue.NULL,
                          new JsonBoolean(true),
                          new JsonBoolean(false),
-                         new JsonNumber(BigDecimal.ONE),
-                         new JsonNumber(BigDecimal.valueOf(278)),
-                         new JsonNumber(new BigDecimal("123456789.123456789")),
-                         new JsonNumber(new BigDecimal("0.123E1234")),
-                         new JsonNumber(BigDecimal.valueOf(-1)),
-                         new JsonNumber(BigDecimal.valueOf(0)),
-                         new JsonNumber(BigDecimal.valueOf(-123.45)),
-                         new JsonNumber(new BigDecimal("1E5")),
-                         new JsonNumber(new BigDecimal("-1.2e-5")),
+                         JsonNumber.of(BigDecimal.ONE),
+                         JsonNumber.of(BigDecimal.valueOf(278)),
+                         JsonNumber.of(new BigDecimal("123456789.123456789")),
+                         JsonNumber.of(new BigDecimal("0.123E1234")),
+                         JsonNumber.of(BigDecimal.valueOf(-1)),
+                         JsonNumber.of(BigDecimal.valueOf(0)),
+                         JsonNumber.of(BigDecimal.valueOf(-123.45)),
+                         JsonNumber.of(new BigDecimal("1E5")),
+                         JsonNumber.of(new BigDecimal("-1.2e-5")),
                          new JsonString(" abc "),
                          new JsonString("\\\"\b\f\n\r\t"),
                          JsonObject.builder().build(),
@@ -33,7 +41,7 @@ class RendererTest {
                                   .add(new JsonString("a"))
                                   .add(new JsonBoolean(true))
                                   .add(JsonValue.NULL)
-                                  .add(new JsonNumber(new BigDecimal("1.23")))
+                                  .add(JsonNumber.of(new BigDecimal("1.23")))
                                   .add(JsonObject.builder()
                                                  .put("name", new JsonString("value"))
                                                  .build())
@@ -45,7 +53,7 @@ class RendererTest {
                                         JsonArray.builder()
                                                  .add(JsonValue.NULL)
                                                  .add(JsonValue.NULL)
-                                                 .add(new JsonNumber(BigDecimal.valueOf(3)))
+                                                 .add(JsonNumber.of(BigDecimal.valueOf(3)))
                                                  .build())
                                    .build(),
                          JsonObject.builder()
@@ -53,9 +61,9 @@ class RendererTest {
                                    .put("name2", new JsonString("value2"))
                                    .put("name3",
                                         JsonArray.builder()
-                                                 .add(new JsonNumber(BigDecimal.valueOf(1)))
-                                                 .add(new JsonNumber(BigDecimal.valueOf(2)))
-                                                 .add(new JsonNumber(BigDecimal.valueOf(3)))
+                                                 .add(JsonNumber.of(BigDecimal.valueOf(1)))
+                                                 .add(JsonNumber.of(BigDecimal.valueOf(2)))
+                                                 .add(JsonNumber.of(BigDecimal.valueOf(3)))
                                                  .build())
                                    .build());
     }
@@ -68,7 +76,9 @@ class RendererTest {
                          EnumSet.of(RenderOption.SKIP_NULL, RenderOption.INLINE_OBJECT),
                          EnumSet.of(RenderOption.SKIP_NULL, RenderOption.FORMAT_ARRAY),
                          EnumSet.of(RenderOption.INLINE_OBJECT, RenderOption.FORMAT_ARRAY),
-                         EnumSet.of(RenderOption.SKIP_NULL, RenderOption.INLINE_OBJECT, RenderOption.FORMAT_ARRAY))
+                         EnumSet.of(RenderOption.SKIP_NULL, RenderOption.INLINE_OBJECT, RenderOption.FORMAT_ARRAY),
+                         EnumSet.of(RenderOption.INDENT_TWO, RenderOption.FORMAT_ARRAY),
+                         EnumSet.of(RenderOption.INDENT_TAB, RenderOption.FORMAT_ARRAY))
                      .flatMap(RendererTest::renderCases);
     }
 
@@ -99,6 +109,154 @@ class RendererTest {
         assertEquals(given.expected, Parser.parse(result));
     }
 
+    static Stream<Set<RenderOption>> options() {
+        return renderCases().map(RenderCase::options)
+                            .distinct();
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void render_record(final Set<RenderOption> options) {
+        final Object source = new Object[]{new SampleRecord("name", null, EnumSample.V2),
+                                           new SampleRecord[]{new SampleRecord(null, 278L, null)},
+                                           new int[]{1, 2, 3},
+                                           null};
+        final String expected = Renderer.render(Generalizer.map(source), options);
+
+        final String result = Renderer.render(source, options);
+
+        assertEquals(expected, result);
+    }
+
+    static Stream<IndentCase> indentCases() {
+        return Stream.of(new IndentCase(EnumSet.noneOf(RenderOption.class), "   "),
+                         new IndentCase(EnumSet.of(RenderOption.INDENT_TWO), "  "),
+                         new IndentCase(EnumSet.of(RenderOption.INDENT_FOUR), "    "),
+                         new IndentCase(EnumSet.of(RenderOption.INDENT_TAB), "\t"),
+                         new IndentCase(EnumSet.of(RenderOption.INDENT_TAB, RenderOption.INDENT_TWO), "  "));
+    }
+
+    @ParameterizedTest
+    @MethodSource("indentCases")
+    final void render_indent(final IndentCase given) {
+        final JsonValue source = JsonObject.builder()
+                                           .put("outer", JsonObject.builder()
+                                                                   .put("inner", JsonValue.NULL)
+                                                                   .build())
+                                           .build();
+        final String expected = String.join("%n".formatted(),
+                                            "{",
+                                            given.unit + "\"outer\" : {",
+                                            given.unit.repeat(2) + "\"inner\" : null",
+                                            given.unit + "}",
+                                            "}");
+
+        final String result = Renderer.render(source, given.options);
+
+        assertEquals(expected, result);
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void render_deep(final Set<RenderOption> options) {
+        JsonValue value = new JsonString("leaf");
+        for (int depth = 0; depth < 100; ++depth) {
+            value = JsonArray.builder()
+                             .add(JsonObject.builder().put("depth", value).build())
+                             .build();
+        }
+
+        final String result = Renderer.render(value, options);
+
+        assertEquals(value, Parser.parse(result));
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void format_of(final Set<RenderOption> options) {
+        final Renderer.Format expected = Renderer.Format.of(options);
+
+        final Renderer.Format result = Renderer.Format.of(options.toArray(RenderOption[]::new));
+
+        assertSame(expected, result);
+    }
+
+    @Test
+    final void render_reused() {
+        final JsonValue large = JsonObject.builder()
+                                          .put("large", new JsonString("x".repeat(1000)))
+                                          .build();
+        final JsonValue small = new JsonString("small");
+        final Set<RenderOption> options = EnumSet.of(RenderOption.INLINE_OBJECT);
+        assertEquals(large, Parser.parse(Renderer.render(large, options)));
+
+        final String result = Renderer.render(small, options);
+
+        assertEquals("\"small\"", result);
+    }
+
+    @Test
+    final void render_canonical() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("b", new BigDecimal("1.50"));
+        map.put("a", new BigDecimal("100"));
+        map.put("c", -0.0);
+        final Object source = new Object[]{1.0, 1.5f, 1e300, new BigDecimal("1.0E-7"), map,
+                                           new SampleRecord("name", 278L, null)};
+        final String expected = "[1,1.5,1E+300,1E-7,{\"a\":100,\"b\":1.5,\"c\":0}," +
+                                "{\"name\":\"name\",\"lValue\":278,\"eValue\":null}]";
+
+        final String result = Renderer.render(source, EnumSet.of(RenderOption.CANONICAL, RenderOption.FORMAT_ARRAY));
+
+        assertEquals(expected, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0.0", "1", "1.5", "-278", "1e15", "1e20", "123456789012345678901", "1e21", "1e22",
+                            "1e300", "1e-7", "0.1", "1.25e-300", "9007199254740993", "4.35"})
+    final void render_canonical_number(final String literal) {
+        final Set<RenderOption> options = EnumSet.of(RenderOption.CANONICAL);
+        final BigDecimal decimal = new BigDecimal(literal);
+        final double value = decimal.doubleValue();
+        final String expected = Renderer.render(new BigDecimal(Double.toString(value)), options);
+        final Set<Object> sources = new HashSet<>(List.of(value, Parser.parse(Double.toString(value))));
+        if (value == (long) value) {
+            sources.add((long) value);
+        }
+        // a float is rendered by its own shortest decimal representation ...
+        final float narrowed = (float) value;
+        if (Float.isFinite(narrowed) && (value == JsonNumber.widened(narrowed))) {
+            sources.add(narrowed);
+        }
+
+        for (final Object source : sources) {
+            assertEquals(expected, Renderer.render(source, options), source.getClass().getName());
+        }
+        assertEquals(Renderer.render(decimal.stripTrailingZeros(), options), Renderer.render(decimal, options));
+        assertEquals(Renderer.render(decimal, options), Renderer.render(Parser.parse(literal), options));
+    }
+
+    @Test
+    final void fragments() {
+        final Renderer.Fragments fragments = new Renderer.Fragments(2);
+        final Renderer.Format inline = Renderer.Format.of(RenderOption.INLINE_OBJECT);
+        final Renderer.Format canonical = Renderer.Format.of(RenderOption.CANONICAL);
+
+        assertEquals("a", fragments.put(inline, new SampleRecord("a", 1L, null), "a"));
+        assertEquals("b", fragments.put(inline, new SampleRecord("b", 2L, null), "b"));
+        assertEquals("c", fragments.put(inline, new SampleRecord("c", 3L, null), "c"));
+        assertEquals("x", fragments.put(inline, new SampleRecord("a", 1L, null), "x"));
+
+        assertEquals("a", fragments.get(inline, new SampleRecord("a", 1L, null)));
+        assertEquals("b", fragments.get(inline, new SampleRecord("b", 2L, null)));
+        assertNull(fragments.get(inline, new SampleRecord("c", 3L, null)));
+        assertNull(fragments.get(canonical, new SampleRecord("a", 1L, null)));
+    }
+
+    @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
+    record IndentCase(Set<RenderOption> options, String unit) {
+    }
+
     @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     record RenderCase(JsonValue source, Set<RenderOption> options, JsonValue expected) {
     }
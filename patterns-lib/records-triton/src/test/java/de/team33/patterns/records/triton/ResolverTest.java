@@ -1,5 +1,6 @@
 package de.team33.patterns.records.triton;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -7,10 +8,15 @@ import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ResolverTest {
@@ -39,10 +45,20 @@ class ResolverTest {
                          new MapCase(BigDecimal.class, "3.141592654", new BigDecimal("3.141592654")),
                          new MapCase(String.class, "\"any string\"", "any string"),
                          new MapCase(char[].class, "[]", EMPTY_CHAR_ARRAY),
+                         new MapCase(char[].class, "[\"x\", \"y\"]", new char[]{'x', 'y'}),
                          new MapCase(Character[].class, "[]", EMPTY_CHARACTER_ARRAY),
                          new MapCase(String[].class, "[\"any string\"]", new String[]{"any string"}),
                          new MapCase(int[].class, "[1,2,3]", new int[]{1, 2, 3}),
                          new MapCase(Integer[].class, "[4,2,9]", new Integer[]{4, 2, 9}),
+                         new MapCase(long[].class, "[-9753108642, 0, 1.0, 2e3]", new long[]{-9753108642L, 0, 1, 2000}),
+                         new MapCase(short[].class, "[-32768, 32767]", new short[]{-32768, 32767}),
+                         new MapCase(byte[].class, "[-128, 127, 0]", new byte[]{-128, 127, 0}),
+                         new MapCase(double[].class, "[3.141592654, -1, 1e-5, 0.30000000000000004]",
+                                     new double[]{3.141592654, -1.0, 1e-5, 0.30000000000000004}),
+                         new MapCase(float[].class, "[1.414, -2, 3.4028235E38]",
+                                     new float[]{1.414f, -2f, 3.4028235E38f}),
+                         new MapCase(boolean[].class, "[true, false]", new boolean[]{true, false}),
+                         new MapCase(Boolean[].class, "[true, null]", new Boolean[]{true, null}),
                          new MapCase(SampleRecord.class, "{}", new SampleRecord(null, null, null)),
                          new MapCase(SampleRecord.class,
                                      "{\"lValue\" :null,\"name\": null, \"eValue\" : null}",
@@ -62,7 +78,12 @@ class ResolverTest {
                                      },
                                      "lValue" : 278
                                  }""",
-                                     new NestedSample(new SampleRecord("name", 9753108642L, EnumSample.V3), 278L)));
+                                     new NestedSample(new SampleRecord("name", 9753108642L, EnumSample.V3), 278L)),
+                         new MapCase(GenericSample.class,
+                                     "{\"list\":[\"a\",null],\"set\":[3,1,3],\"map\":{\"k\":[1]}," +
+                                     "\"optional\":null}",
+                                     new GenericSample(Arrays.asList("a", null), Set.of(1, 3),
+                                                       Map.of("k", List.of(1L)), Optional.empty())));
     }
 
     static Stream<FailCase> failCases() {
@@ -72,6 +93,13 @@ class ResolverTest {
                          new FailCase(PrimeSample.class, "{}", IllegalArgumentException.class),
                          new FailCase(List.class, "{}", IllegalArgumentException.class),
                          new FailCase(char.class, "\"\"", IllegalArgumentException.class),
+                         new FailCase(int[].class, "[1, null]", IllegalArgumentException.class),
+                         new FailCase(int[].class, "[1, \"2\"]", IllegalArgumentException.class),
+                         new FailCase(boolean[].class, "[true, null]", IllegalArgumentException.class),
+                         new FailCase(char[].class, "[\"x\", null]", IllegalArgumentException.class),
+                         new FailCase(long[].class, "[1.5]", ArithmeticException.class),
+                         new FailCase(byte[].class, "[128]", ArithmeticException.class),
+                         new FailCase(double[].class, "[true]", IllegalArgumentException.class),
                          new FailCase(char.class, "\"ab\"", IllegalArgumentException.class),
                          new FailCase(EnumSample.class, "\"V0\"", IllegalStateException.class), // TODO: IllegalArgumentException
                          new FailCase(PrimeSample.class,
@@ -105,6 +133,28 @@ class ResolverTest {
         }
     }
 
+    @Test
+    final void of_cached() {
+        assertSame(Resolver.of(EnumSample.class), Resolver.of(EnumSample.class));
+        assertSame(Resolver.of(List.class), Resolver.of(List.class));
+    }
+
+    @Test
+    final void resolve_genericArray() {
+        final JsonValue value = Parser.parse("{\"array\":[[\"a\",\"b\"],[]]}");
+
+        final GenericArraySample result = (GenericArraySample) Resolver.resolve(GenericArraySample.class, value);
+
+        assertEquals(List.of(List.of("a", "b"), List.of()), Arrays.asList(result.array()));
+    }
+
+    @Test
+    final void resolve_enum() {
+        for (final EnumSample value : EnumSample.values()) {
+            assertSame(value, Resolver.resolve(EnumSample.class, new JsonString(value.name())));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("failCases")
     final void parse_fail(final FailCase given) {
@@ -113,6 +163,21 @@ class ResolverTest {
         // e.printStackTrace();
     }
 
+    @Test
+    final void resolve_fail_message() {
+        final Exception result = assertThrows(IllegalArgumentException.class,
+                                              () -> Resolver.resolve(String.class, Parser.parse("[1, 2.5, 1e400]")));
+        assertEquals("illegal Json type: %s - expected: %s".formatted(JsonArray.class, JsonString.class),
+                     result.getMessage());
+
+        for (final String number : List.of("1", "2.5", "1e400")) {
+            final Exception failure = assertThrows(IllegalArgumentException.class,
+                                                   () -> Resolver.resolve(String.class, Parser.parse(number)));
+            assertEquals("illegal Json type: %s - expected: %s".formatted(JsonNumber.class, JsonString.class),
+                         failure.getMessage());
+        }
+    }
+
     record MapCase(Class<?> targetClass, String source, Object expected) {
 
         final JsonValue value() {
@@ -132,4 +197,11 @@ class ResolverTest {
 
     private record NestedSample(SampleRecord plain, Long lValue) {
     }
+
+    private record GenericSample(List<String> list, Set<Integer> set, Map<String, List<Long>> map,
+                                 Optional<Double> optional) {
+    }
+
+    private record GenericArraySample(List<String>[] array) {
+    }
 }
\ No newline at end of file
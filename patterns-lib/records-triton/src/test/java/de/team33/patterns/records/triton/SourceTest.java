@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.StringReader;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,6 +165,22 @@ class SourceTest {
         assertFalse(source.hasMore());
     }
 
+    @Test
+    final void reset() {
+        final Source source = new Source("a rather long text");
+        source.skip(7)
+              .mark();
+
+        assertEquals("short", source.reset("short").peekUntil(c -> c == ' '));
+        assertEquals(0, source.index());
+        source.skip(5);
+        assertFalse(source.hasMore());
+
+        source.clear();
+        assertFalse(source.hasMore());
+        assertEquals("ok", source.reset(new StringReader("ok")).peekUntil(c -> c == ' '));
+    }
+
     @FunctionalInterface
     interface SourceCase {
 
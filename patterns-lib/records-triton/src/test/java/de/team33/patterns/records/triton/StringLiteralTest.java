@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +26,23 @@ class StringLiteralTest {
                          parseCase(SUPPLY.anyString()));
     }
 
+    static Stream<ParseCase> escapeCases() {
+        return Stream.of(new ParseCase("\"\\u0041\\u00e4\\u00C4\\u20ac\\ud83d\\ude00\"", "A\u00e4\u00c4\u20ac\ud83d\ude00"),
+                         new ParseCase("\"a\\/b\\\\c\\bd\"", "a/b\\c\bd"),
+                         new ParseCase("\"\\u00\"", null),
+                         new ParseCase("\"\\u00g0\"", null),
+                         new ParseCase("\"\\x\"", null),
+                         new ParseCase("\"unterminated", null),
+                         new ParseCase("\"unterminated\\\"", null));
+    }
+
+    static Stream<RenderCase> controlCases() {
+        return Stream.of(new RenderCase("\u0000", "\"\\u0000\""),
+                         new RenderCase("a\u001fb", "\"a\\u001fb\""),
+                         new RenderCase("\u007f/\u00e4\u20ac", "\"\u007f/\u00e4\u20ac\""),
+                         new RenderCase("tab\tand\u000bvt", "\"tab\\tand\\u000bvt\""));
+    }
+
     private static ParseCase parseCase(final String expected) {
         return new ParseCase("\"%s\"".formatted(expected), expected);
     }
@@ -46,6 +65,28 @@ class StringLiteralTest {
         assertEquals(given.expected, result);
     }
 
+    @ParameterizedTest
+    @MethodSource("escapeCases")
+    final void parse_escape(final ParseCase given) {
+        parse(given);
+    }
+
+    @ParameterizedTest
+    @MethodSource("controlCases")
+    final void render_control(final RenderCase given) {
+        final var result = StringLiteral.render(given.text);
+        assertEquals(given.expected, result);
+        assertEquals(given.text, StringLiteral.parse(new Source(result)));
+    }
+
+    @Test
+    final void render_appendable() throws IOException {
+        final String text = "this\tcontains\nseveral\u0001escape \"sequences\"";
+        final StringWriter result = new StringWriter();
+        StringLiteral.render(text, result);
+        assertEquals(StringLiteral.render(text), result.toString());
+    }
+
     @ParameterizedTest
     @MethodSource("parseCases")
     final void parse(final ParseCase given) {
@@ -1,12 +1,18 @@
 package de.team33.patterns.records.triton;
 
 import de.team33.patterns.records.triton.testing.Supply;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -67,6 +73,47 @@ class StringableTest extends TritonTestBase {
         assertEquals(given.decoded, result);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a uuid"})
+    final void decode_fail(final String encoded) {
+        assertThrows(IllegalStateException.class, () -> Stringable.decode(UUID.class, encoded));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Integer.class, Instant.class, LocalDate.class, Duration.class, ZoneId.class})
+    final void decode_fail_any(final Class<?> type) {
+        assertThrows(IllegalStateException.class, () -> Stringable.decode(type, "not a value"));
+    }
+
+    @Test
+    final void supports_setupLater() {
+        final String encoded = SUPPLY.anyString();
+        assertFalse(Stringable.supports(Unsupported.class));
+
+        Stringable.setup(Unsupported.class, mapping -> mapping.backward(Unsupported::new));
+
+        assertTrue(Stringable.supports(Unsupported.class));
+        assertEquals(encoded, Stringable.decode(Unsupported.class, encoded).value);
+        assertThrows(IllegalStateException.class,
+                     () -> Stringable.setup(Unsupported.class, mapping -> mapping));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Path.class, ZoneId.class, LocalDate.class, Duration.class, URI.class})
+    final void supports_standard(final Class<?> type) {
+        assertTrue(Stringable.supports(type));
+    }
+
+    @Test
+    final void encode_path() {
+        final Path path = Path.of("some", "path");
+
+        final String result = Stringable.encode(path);
+
+        assertEquals(path.toString(), result);
+        assertEquals(path, Stringable.decode(Path.class, result));
+    }
+
     record Case<T>(Class<T> type, T decoded, String encoded) {
     }
 
@@ -115,6 +162,15 @@ class StringableTest extends TritonTestBase {
         }
     }
 
+    private static final class Unsupported {
+
+        private final String value;
+
+        private Unsupported(final String value) {
+            this.value = value;
+        }
+    }
+
     @SuppressWarnings("unused")
     public static final class ByStringByFactory {
 
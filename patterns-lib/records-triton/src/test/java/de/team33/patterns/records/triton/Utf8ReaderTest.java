@@ -0,0 +1,91 @@
+package de.team33.patterns.records.triton;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Utf8ReaderTest {
+
+    static Stream<String> texts() {
+        return Stream.of("",
+                         "plain ASCII text",
+                         "Gr\u00fc\u00dfe aus K\u00f6ln",
+                         "\u20ac 278,-",
+                         "\ud83d\ude00 smile \ud83d\ude00\ud83d\ude01",
+                         "mixed: a\u00e4\u20ac\ud83d\ude00z".repeat(5000));
+    }
+
+    static Stream<byte[]> malformed() {
+        return Stream.of(new byte[]{'a', (byte) 0xFF, 'b'},
+                         new byte[]{'a', (byte) 0x80, 'b'},
+                         new byte[]{(byte) 0xC0, (byte) 0xAF},
+                         new byte[]{'a', (byte) 0xED, (byte) 0xA0, (byte) 0x80});
+    }
+
+    private static String readAll(final Reader reader, final int chunk) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        final char[] buffer = new char[chunk];
+        for (int count = reader.read(buffer, 0, chunk); 0 <= count; count = reader.read(buffer, 0, chunk)) {
+            result.append(buffer, 0, count);
+        }
+        return result.toString();
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    final void read_bytes(final String expected) throws IOException {
+        final byte[] bytes = expected.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, readAll(Utf8Reader.of(bytes), 8192));
+        assertEquals(expected, readAll(Utf8Reader.of(bytes), 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    final void read_stream(final String expected) throws IOException {
+        final byte[] bytes = expected.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, readAll(Utf8Reader.of(new ByteArrayInputStream(bytes)), 8192));
+        assertEquals(expected, readAll(Utf8Reader.of(new TricklingInputStream(bytes)), 3));
+    }
+
+    @ParameterizedTest
+    @MethodSource("malformed")
+    final void read_malformed(final byte[] bytes) throws IOException {
+        final String expected = readAll(new InputStreamReader(new ByteArrayInputStream(bytes),
+                                                              StandardCharsets.UTF_8), 8192);
+        assertEquals(expected, readAll(Utf8Reader.of(bytes), 8192));
+        assertEquals(expected, readAll(Utf8Reader.of(new TricklingInputStream(bytes)), 1));
+    }
+
+    private static final class TricklingInputStream extends InputStream {
+
+        private final byte[] bytes;
+        private int position;
+
+        private TricklingInputStream(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return (position < bytes.length) ? (bytes[position++] & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (position < bytes.length) {
+                b[off] = bytes[position++];
+                return 1;
+            }
+            return -1;
+        }
+    }
+}
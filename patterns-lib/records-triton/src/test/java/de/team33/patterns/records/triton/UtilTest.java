@@ -2,6 +2,7 @@ package de.team33.patterns.records.triton;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 class UtilTest {
@@ -10,4 +11,11 @@ class UtilTest {
     final void typeName() {
         assertNull(Util.typeName(null));
     }
+
+    @Test
+    final void boxed() {
+        assertEquals(Integer.class, Util.boxed(int.class));
+        assertEquals(Character.class, Util.boxed(char.class));
+        assertEquals(String.class, Util.boxed(String.class));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package de.team33.patterns.records.triton.publics;
+
+import de.team33.patterns.records.triton.Triton;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTest {
+
+    private static final Sample SAMPLE = new Sample(true, (byte) -7, (short) 1234, Integer.MIN_VALUE, Long.MAX_VALUE,
+                                                    1.5f, -0.1, 'x', 278L, null,
+                                                    new BigInteger("123456789012345678901234567890"),
+                                                    new BigDecimal("-0.000123"),
+                                                    "text with \"quotes\", \u00E9 and \uD83D\uDE00",
+                                                    TimeUnit.SECONDS,
+                                                    Instant.parse("2024-01-02T03:04:05.678Z"),
+                                                    UUID.fromString("01234567-89ab-cdef-0123-456789abcdef"),
+                                                    new int[]{0, -1, 300},
+                                                    new String[]{"a", null, ""},
+                                                    new Item("nested", 42),
+                                                    new Item[]{new Item("first", 1), null});
+
+    @Test
+    final void roundTrip() {
+        final byte[] stage = Triton.toBinary(SAMPLE);
+
+        final Sample result = Triton.fromBinary(Sample.class, stage);
+
+        assertEquals(Triton.toJson(SAMPLE), Triton.toJson(result));
+    }
+
+    @Test
+    final void roundTrip_serializer() {
+        final byte[] stage = Triton.serializer(Sample.class).toBinary(SAMPLE);
+
+        final Sample result = Triton.serializer(Sample.class).fromBinary(stage);
+
+        assertEquals(Arrays.toString(Triton.toBinary(SAMPLE)), Arrays.toString(stage));
+        assertEquals(Triton.toJson(SAMPLE), Triton.toJson(result));
+    }
+
+    @Test
+    final void roundTrip_collections() {
+        final Containers origin = new Containers(List.of(new Item("a", 1), new Item("b", 2)),
+                                                 Set.of("x", "y"),
+                                                 Map.of("key", List.of(1L, 2L)),
+                                                 Optional.of(new Item("c", 3)),
+                                                 Optional.empty());
+
+        final Containers result = Triton.fromBinary(Containers.class, Triton.toBinary(origin));
+
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void roundTrip_series() {
+        final Series origin = Series.random(100_000);
+
+        final Series result = Triton.fromBinary(Series.class, Triton.toBinary(origin));
+
+        assertEquals(origin.toString(), result.toString());
+    }
+
+    @Test
+    final void compact() {
+        final Item[] items = new Item[100];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = new Item("item-" + index, index * 1000L);
+        }
+        final Batch batch = new Batch(items);
+
+        final int binary = Triton.toBinary(batch).length;
+        final int json = Triton.toJson(batch).length();
+
+        assertTrue(3 * binary < json, "binary: %d, json: %d".formatted(binary, json));
+    }
+
+    @Test
+    final void fromBinary_nullComponents() {
+        final Item result = Triton.fromBinary(Item.class, Triton.toBinary(new Item(null, 0)));
+
+        assertNull(result.name());
+    }
+
+    @Test
+    final void roundTrip_null() {
+        final byte[] stage = Triton.toBinary(null);
+
+        assertEquals(Arrays.toString(Triton.serializer(Item.class).toBinary(null)), Arrays.toString(stage));
+        assertNull(Triton.fromBinary(Item.class, stage));
+        assertNull(Triton.serializer(Item.class).fromBinary(stage));
+    }
+
+    @Test
+    final void fromBinary_unknownComponents() {
+        final byte[] stage = Triton.toBinary(new Extended("name", 278, SAMPLE));
+
+        final Item result = Triton.fromBinary(Item.class, stage);
+
+        assertEquals(new Item("name", 278), result);
+    }
+
+    @Test
+    final void fromBinary_truncated() {
+        final byte[] stage = Triton.toBinary(SAMPLE);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.fromBinary(Sample.class, Arrays.copyOf(stage, stage.length - 1)));
+    }
+
+    @Test
+    final void fromBinary_trailing() {
+        final byte[] stage = Triton.toBinary(SAMPLE);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.fromBinary(Sample.class, Arrays.copyOf(stage, stage.length + 1)));
+    }
+
+    @Test
+    final void fromBinary_mismatch() {
+        final byte[] stage = Triton.toBinary(new Mismatch(278L));
+
+        assertThrows(IllegalArgumentException.class, () -> Triton.fromBinary(Item.class, stage));
+    }
+
+    @SuppressWarnings("ArrayRecordComponent")
+    private record Sample(boolean bool, byte b, short s, int i, long l, float f, double d, char c,
+                          Long boxed, Integer missing, BigInteger bigInteger, BigDecimal bigDecimal,
+                          String string, TimeUnit unit, Instant instant, UUID uuid,
+                          int[] ints, String[] strings, Item item, Item[] items) {
+    }
+
+    private record Item(String name, long value) {
+    }
+
+    private record Extended(String name, long value, Sample extra) {
+    }
+
+    private record Containers(List<Item> items, Set<String> tags, Map<String, List<Long>> values,
+                              Optional<Item> first, Optional<String> note) {
+    }
+
+    record Series(int[] ints, long[] longs, double[] doubles, float[] floats, short[] shorts, byte[] bytes,
+                  boolean[] booleans, char[] chars) {
+
+        static Series random(final int size) {
+            final Random random = new Random(size);
+            final Series result = new Series(new int[size], new long[size], new double[size], new float[size],
+                                             new short[size], new byte[size], new boolean[size], new char[size]);
+            for (int index = 0; index < size; ++index) {
+                result.ints[index] = random.nextInt();
+                result.longs[index] = random.nextLong();
+                result.doubles[index] = random.nextGaussian() * 1e6;
+                result.floats[index] = random.nextFloat() - 0.5f;
+                result.shorts[index] = (short) random.nextInt();
+                result.bytes[index] = (byte) random.nextInt();
+                result.booleans[index] = random.nextBoolean();
+                result.chars[index] = (char) ('a' + random.nextInt(26));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return String.join("\n", Arrays.toString(ints), Arrays.toString(longs), Arrays.toString(doubles),
+                               Arrays.toString(floats), Arrays.toString(shorts), Arrays.toString(bytes),
+                               Arrays.toString(booleans), Arrays.toString(chars));
+        }
+    }
+
+    private record Mismatch(Long name) {
+    }
+
+    @SuppressWarnings("ArrayRecordComponent")
+    private record Batch(Item[] items) {
+    }
+}
@@ -0,0 +1,119 @@
+package de.team33.patterns.records.triton.publics;
+
+import de.team33.patterns.records.triton.Triton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExtractTest {
+
+    private static final String JSON = """
+            {
+                "header" : {
+                    "routing" : "orders.eu",
+                    "priority" : 3,
+                    "tags" : ["a", "b\\u0063", "d"]
+                },
+                "payload" : [
+                    {"name" : "first", "value" : 1.5, "flag" : true},
+                    {"name" : "second", "value" : -278, "flag" : null}
+                ],
+                "trailer" : "\\"escaped\\" text"
+            }""";
+
+    static Stream<Case> cases() {
+        return Stream.of(new Case(String.class, List.of("header", "routing"), Optional.of("orders.eu")),
+                         new Case(int.class, List.of("header", "priority"), Optional.of(3)),
+                         new Case(Long.class, List.of("header", "priority"), Optional.of(3L)),
+                         new Case(String.class, List.of("header", "tags", "1"), Optional.of("bc")),
+                         new Case(String[].class, List.of("header", "tags"), Optional.empty()),
+                         new Case(double.class, List.of("payload", "0", "value"), Optional.of(1.5)),
+                         new Case(Item.class, List.of("payload", "1"),
+                                  Optional.of(new Item("second", -278, null))),
+                         new Case(String.class, List.of("trailer"), Optional.of("\"escaped\" text")),
+                         new Case(Boolean.class, List.of("payload", "1", "flag"), Optional.empty()),
+                         new Case(String.class, List.of("unknown"), Optional.empty()),
+                         new Case(String.class, List.of("payload", "2", "name"), Optional.empty()),
+                         new Case(String.class, List.of("payload", "first"), Optional.empty()),
+                         new Case(String.class, List.of("header", "routing", "deeper"), Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    final void extract(final Case given) {
+        final Optional<?> result = Triton.extract(given.type, JSON, given.path.toArray(String[]::new));
+        if (given.type.isArray()) {
+            assertEquals(List.of("a", "bc", "d"), result.map(array -> List.of((Object[]) array)).orElseThrow());
+        } else {
+            assertEquals(given.expected, result);
+        }
+    }
+
+    @Test
+    final void extract_root() {
+        final Optional<String> result = Triton.extract(String.class, "\"root\"");
+        assertEquals(Optional.of("root"), result);
+    }
+
+    @Test
+    final void extract_complete() {
+        final String json = "{\"key\" : \"value\", \"rest\" : { invalid";
+        assertThrows(IllegalArgumentException.class, () -> Triton.extract(String.class, json, "key"));
+        assertThrows(IllegalArgumentException.class, () -> Triton.extract(String.class, json, "missing"));
+        assertThrows(IllegalArgumentException.class, () -> Triton.extract(String.class, "{\"key\" : 1} 2", "key"));
+    }
+
+    @Test
+    final void extract_duplicates() {
+        final String json = "{\"name\" : \"first\", \"value\" : 1, \"name\" : \"second\", " +
+                            "\"payload\" : {\"name\" : \"a\"}, \"payload\" : {\"value\" : 2}, \"value\" : 3}";
+        final Item item = Triton.toRecord(Item.class, json);
+
+        assertEquals(Optional.of(item.name()), Triton.extract(String.class, json, "name"));
+        assertEquals(Optional.of("second"), Triton.extract(String.class, json, "name"));
+        assertEquals(Optional.of(item.value()), Triton.extract(Long.class, json, "value"));
+        assertEquals(Optional.empty(), Triton.extract(String.class, json, "payload", "name"));
+        assertEquals(Optional.of(2L), Triton.extract(Long.class, json, "payload", "value"));
+    }
+
+    @Test
+    final void extract_reader() {
+        final Reader reader = new StringReader(JSON);
+        assertEquals(Optional.of("first"), Triton.extract(String.class, reader, "payload", "0", "name"));
+    }
+
+    @Test
+    final void extract_large() {
+        final String item = "{\"name\" : \"[\\\"{\\\\\", \"value\" : 1.5, \"flag\" : [true, {}]}";
+        final String json = "{\"items\" : [" + String.join(", ", Collections.nCopies(1000, item)) + "], " +
+                            "\"skipped\" : {\"a\" : [\"]}\"]}, \"last\" : \"done\"}";
+        assertEquals(Optional.of("done"), Triton.extract(String.class, json, "last"));
+        assertEquals(Optional.of("[\"{\\"), Triton.extract(String.class, json, "items", "999", "name"));
+        assertEquals(Triton.extract(String.class, new StringReader(json), "last"),
+                     Triton.extract(String.class, json, "last"));
+    }
+
+    @Test
+    final void extract_fail_syntax() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.extract(String.class, "{\"a\" : [1, 2 \"x\"], \"b\" : \"c\"}", "b"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.extract(String.class, "{\"a\" : \"\\x\", \"b\" : \"c\"}", "b"));
+    }
+
+    record Case(Class<?> type, List<String> path, Optional<?> expected) {
+    }
+
+    record Item(String name, long value, Boolean flag) {
+    }
+}
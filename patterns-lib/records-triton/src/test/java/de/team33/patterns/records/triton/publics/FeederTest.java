@@ -0,0 +1,114 @@
+package de.team33.patterns.records.triton.publics;
+
+import de.team33.patterns.records.triton.Feeder;
+import de.team33.patterns.records.triton.Triton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeederTest {
+
+    private static final List<Item> ITEMS = List.of(
+            new Item("plain", 1, List.of("a", "b")),
+            new Item("with {braces} and [brackets]", -2, List.of()),
+            new Item("with \"quotes\" and \\ backslash", 3, null),
+            new Item("multibyte \u00e4\u20ac\ud83d\ude00", 4, List.of("\u00df")));
+    private static final String JSON_LINES = String.join("\n", Triton.toJsonAll(ITEMS)) + "\n";
+
+    private final List<Item> results = new ArrayList<>();
+    private final Feeder<Item> feeder = Triton.feeder(Item.class, results::add);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64, 1 << 16})
+    final void feed_chars(final int chunkSize) {
+        for (int index = 0; index < JSON_LINES.length(); index += chunkSize) {
+            feeder.feed(JSON_LINES.substring(index, Math.min(index + chunkSize, JSON_LINES.length())));
+        }
+        assertFalse(feeder.isPending());
+        assertEquals(ITEMS, results);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 64, 1 << 16})
+    final void feed_bytes(final int chunkSize) {
+        final byte[] bytes = JSON_LINES.getBytes(StandardCharsets.UTF_8);
+        for (int index = 0; index < bytes.length; index += chunkSize) {
+            final ByteBuffer chunk = ByteBuffer.wrap(Arrays.copyOfRange(bytes, index,
+                                                                        Math.min(index + chunkSize, bytes.length)));
+            feeder.feed(chunk);
+            assertFalse(chunk.hasRemaining());
+        }
+        feeder.finish();
+        assertEquals(ITEMS, results);
+    }
+
+    @Test
+    final void feed_charBuffer() {
+        final CharBuffer chunk = CharBuffer.wrap(JSON_LINES);
+        feeder.feed(chunk);
+        assertFalse(chunk.hasRemaining());
+        assertEquals(ITEMS, results);
+    }
+
+    @Test
+    final void feed_pending() {
+        feeder.feed("{\"name\" : \"pending\", \"count\" : 5, \"tags\" : [\"x\"]");
+        assertTrue(feeder.isPending());
+        assertEquals(List.of(), results);
+
+        feeder.feed("}{\"name\":\"next\",\"count\":6}");
+        assertFalse(feeder.isPending());
+        assertEquals(List.of(new Item("pending", 5, List.of("x")), new Item("next", 6, null)), results);
+    }
+
+    @Test
+    final void feed_null() {
+        feeder.feed("null\n{\"count\":1} null");
+        assertEquals(Arrays.asList(null, new Item(null, 1, null)), results);
+
+        feeder.finish();
+        assertEquals(Arrays.asList(null, new Item(null, 1, null), null), results);
+    }
+
+    @Test
+    final void feed_malformed() {
+        assertThrows(IllegalArgumentException.class, () -> feeder.feed("{\"count\" : \"one\"}"));
+        assertFalse(feeder.isPending());
+
+        feeder.feed("{\"count\" : 1}");
+        assertEquals(List.of(new Item(null, 1, null)), results);
+    }
+
+    @Test
+    final void finish_incomplete() {
+        feeder.feed("{\"name\" : \"incomplete\"");
+        assertThrows(IllegalArgumentException.class, feeder::finish);
+        assertFalse(feeder.isPending());
+        assertEquals(List.of(), results);
+    }
+
+    @Test
+    final void serializer() {
+        final List<Item> items = new ArrayList<>();
+        Triton.serializer(Item.class)
+              .feeder(items::add)
+              .feed(JSON_LINES)
+              .finish();
+        assertEquals(ITEMS, items);
+    }
+
+    record Item(String name, int count, List<String> tags) {
+    }
+}
@@ -0,0 +1,123 @@
+package de.team33.patterns.records.triton.publics;
+
+import de.team33.patterns.records.triton.Serializer;
+import de.team33.patterns.records.triton.Triton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static de.team33.patterns.records.triton.RenderOption.CANONICAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PatchTest {
+
+    private static final State ORIGIN = new State("origin", 1, new Inner("a", 1L), new int[]{1, 2, 3},
+                                                  List.of("x", "y"), Map.of("k1", new Inner("k", 1L)),
+                                                  Optional.of("note"));
+
+    static Stream<State> targets() {
+        return Stream.of(ORIGIN,
+                         new State("target", 1, new Inner("a", 1L), new int[]{1, 2, 3},
+                                   List.of("x", "y"), Map.of("k1", new Inner("k", 1L)), Optional.of("note")),
+                         new State("origin", 2, new Inner("a", 2L), new int[]{1, 2},
+                                   List.of("y", "x"), Map.of("k1", new Inner("k", 1L)), Optional.empty()),
+                         new State("origin", 1, null, null, null, null, Optional.empty()),
+                         new State(null, 1, new Inner(null, 1L), new int[]{1, 2, 3},
+                                   List.of(), Map.of("k2", new Inner("k", 2L)), Optional.of("other")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    final void patch_diff(final State target) {
+        final String patch = Triton.diff(State.class, ORIGIN, target);
+
+        final State result = Triton.patch(State.class, ORIGIN, patch);
+
+        assertEquals(Triton.toJson(target), Triton.toJson(result));
+        assertEquals("{}", Triton.diff(State.class, target, result));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    final void patch_diff_reverse(final State origin) {
+        final String patch = Triton.diff(State.class, origin, ORIGIN);
+
+        final State result = Triton.patch(State.class, origin, patch);
+
+        assertEquals(Triton.toJson(ORIGIN), Triton.toJson(result));
+    }
+
+    @Test
+    final void diff_equal() {
+        final State copy = new State("origin", 1, new Inner("a", 1L), new int[]{1, 2, 3},
+                                     List.of("x", "y"), Map.of("k1", new Inner("k", 1L)), Optional.of("note"));
+
+        assertEquals("{}", Triton.diff(State.class, ORIGIN, copy));
+    }
+
+    @Test
+    final void diff_compact() {
+        final State target = new State("origin", 2, new Inner("a", 3L), new int[]{1, 2, 3},
+                                       List.of("x", "y"), Map.of("k2", new Inner("k", 1L)), Optional.empty());
+        final String expected = "{\"byKey\":{\"k1\":null,\"k2\":{\"name\":\"k\",\"value\":1}},\"count\":2," +
+                                "\"inner\":{\"value\":3},\"note\":null}";
+
+        assertEquals(expected, Triton.diff(State.class, ORIGIN, target));
+    }
+
+    @Test
+    final void diff_null() {
+        assertEquals("null", Triton.diff(State.class, ORIGIN, null));
+        assertEquals(Triton.toJson(ORIGIN, CANONICAL), Triton.diff(State.class, null, ORIGIN));
+    }
+
+    @Test
+    final void patch_null() {
+        assertNull(Triton.patch(State.class, ORIGIN, "null"));
+
+        final State result = Triton.patch(State.class, null, "{\"name\":\"new\",\"count\":5}");
+
+        assertEquals("new", result.name());
+        assertEquals(5, result.count());
+        assertNull(result.inner());
+    }
+
+    @Test
+    final void patch_unknown() {
+        final State result = Triton.patch(State.class, ORIGIN, "{\"unknown\":{\"a\":1},\"count\":7}");
+
+        assertEquals(7, result.count());
+        assertEquals("{\"count\":1}", Triton.diff(State.class, result, ORIGIN));
+    }
+
+    @Test
+    final void patch_fail() {
+        assertThrows(IllegalArgumentException.class, () -> Triton.patch(State.class, ORIGIN, "{\"count\":\"x\"}"));
+        assertThrows(IllegalArgumentException.class, () -> Triton.patch(State.class, ORIGIN, "{\"count\":null}"));
+        assertThrows(IllegalArgumentException.class, () -> Triton.patch(State.class, ORIGIN, "{\"count\":"));
+    }
+
+    @Test
+    final void serializer() {
+        final Serializer<State> serializer = Triton.serializer(State.class);
+        final State target = new State("target", 1, null, null, null, null, Optional.empty());
+
+        final State result = serializer.patch(ORIGIN, serializer.diff(ORIGIN, target));
+
+        assertEquals(serializer.toJson(target), serializer.toJson(result));
+    }
+
+    record State(String name, int count, Inner inner, int[] values, List<String> tags, Map<String, Inner> byKey,
+                 Optional<String> note) {
+    }
+
+    record Inner(String name, long value) {
+    }
+}
@@ -0,0 +1,156 @@
+package de.team33.patterns.records.triton.publics;
+
+import de.team33.patterns.records.triton.RenderOption;
+import de.team33.patterns.records.triton.Serializer;
+import de.team33.patterns.records.triton.Triton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static de.team33.patterns.records.triton.RenderOption.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SerializerTest {
+
+    private static final Order ORDER = new Order("#278",
+                                                 new Customer("Jane", null),
+                                                 new Line[]{new Line("apple", 3), new Line("pear", 1)},
+                                                 4L);
+
+    static Stream<List<RenderOption>> options() {
+        return Stream.of(List.of(),
+                         List.of(INLINE_OBJECT),
+                         List.of(SKIP_NULL, FORMAT_ARRAY),
+                         List.of(INLINE_OBJECT, SKIP_NULL, INDENT_TAB),
+                         List.of(CANONICAL, SKIP_NULL));
+    }
+
+    private static Serializer<Order> serializer(final List<RenderOption> options) {
+        return Triton.serializer(Order.class, options.toArray(RenderOption[]::new));
+    }
+
+    @Test
+    final void recordType() {
+        assertSame(Order.class, Triton.serializer(Order.class).recordType());
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void toJson(final List<RenderOption> options) {
+        final String expected = Triton.toJson(ORDER, options.toArray(RenderOption[]::new));
+
+        final String result = serializer(options).toJson(ORDER);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    final void toJson_null() {
+        assertEquals("null", Triton.serializer(Order.class).toJson(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonRoundTrip(final List<RenderOption> options) {
+        final Serializer<Order> serializer = serializer(options);
+        final String json = serializer.toJson(ORDER);
+        final String expected = ORDER.toString();
+
+        assertEquals(expected, serializer.toRecord(json).toString());
+        assertEquals(expected, serializer.toRecord(json.toCharArray()).toString());
+        assertEquals(expected, serializer.toRecord(new StringReader(json)).toString());
+        assertEquals(expected, serializer.toRecord(json.getBytes(StandardCharsets.UTF_8)).toString());
+        assertEquals(expected,
+                     serializer.toRecord(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                               .toString());
+    }
+
+    /**
+     * Whatever the size of a document, skipped members are still validated.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"unknown\":{\"a\":,,,:: tru 1.2.3},\"id\":\"x\"}",
+                            "{\"unknown\":[1,,2 tru],\"id\":\"x\"}",
+                            "{\"id\":\"x\\q\"}",
+                            "{\"id\":\"x}"})
+    final void toRecord_fail(final String json) {
+        final Serializer<Order> serializer = Triton.serializer(Order.class);
+        for (final String given : List.of(json, json + " ".repeat(20000))) {
+            assertThrows(IllegalArgumentException.class, () -> serializer.toRecord(given));
+            assertThrows(IllegalArgumentException.class, () -> serializer.toRecord(given.toCharArray()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonLinesRoundTrip(final List<RenderOption> options) throws IOException {
+        final Serializer<Order> serializer = serializer(options);
+        final List<Order> origin = List.of(ORDER, new Order("#279", null, new Line[0], 0L), ORDER);
+        final StringBuilder stage = new StringBuilder();
+        serializer.writeJsonLines(origin, stage);
+
+        final List<String> result;
+        try (final Stream<Order> stream = serializer.toRecords(new StringReader(stage.toString()))) {
+            result = stream.map(Order::toString).toList();
+        }
+
+        assertEquals(origin.size(), stage.toString().lines().toList().size());
+        assertEquals(origin.stream().map(Order::toString).toList(), result);
+    }
+
+    @Test
+    final void toJsonAll() {
+        final Serializer<Order> serializer = Triton.serializer(Order.class, INLINE_OBJECT);
+        final List<Order> origin = List.of(ORDER, new Order("#279", null, null, 0L));
+
+        final List<String> result = serializer.toJsonAll(origin);
+
+        assertEquals(origin.stream().map(serializer::toJson).toList(), result);
+    }
+
+    @Test
+    final void toJsonAll_stream() {
+        final Serializer<Order> serializer = Triton.serializer(Order.class, INLINE_OBJECT);
+        final List<Order> origin = List.of(ORDER, new Order("#279", null, null, 0L));
+
+        final List<String> result = serializer.toJsonAll(origin.stream()).toList();
+
+        assertEquals(serializer.toJsonAll(origin), result);
+    }
+
+    @Test
+    final void mapRoundTrip() {
+        final Serializer<Order> serializer = Triton.serializer(Order.class);
+
+        final Order result = serializer.toRecord(serializer.toMap(ORDER));
+
+        assertEquals(ORDER, result);
+    }
+
+    @SuppressWarnings("ArrayRecordComponent")
+    private record Order(String id, Customer customer, Line[] lines, long total) {
+
+        @Override
+        public String toString() {
+            return "Order[id=%s, customer=%s, lines=%s, total=%d]".formatted(id, customer,
+                                                                           (null == lines) ? null : List.of(lines),
+                                                                           total);
+        }
+    }
+
+    private record Customer(String name, String email) {
+    }
+
+    private record Line(String item, int quantity) {
+    }
+}
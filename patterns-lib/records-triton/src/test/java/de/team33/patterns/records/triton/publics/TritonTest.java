@@ -7,16 +7,38 @@ import de.team33.patterns.records.triton.testing.Supply;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static de.team33.patterns.records.triton.RenderOption.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TritonTest extends TritonTestBase {
 
@@ -74,6 +96,39 @@ class TritonTest extends TritonTestBase {
         assertEquals(origin, result);
     }
 
+    @Test
+    final void jsonRoundTrip_chars() {
+        final Sample origin = anySample();
+        final String stage = Triton.toJson(origin);
+        final Sample result = Triton.toRecord(Sample.class, stage.toCharArray());
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void jsonRoundTrip_reader() {
+        final Sample origin = anySample();
+        final String stage = Triton.toJson(origin);
+        final Sample result = Triton.toRecord(Sample.class, new StringReader(stage));
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void jsonRoundTrip_bytes() {
+        final Sample origin = anySample();
+        final byte[] stage = Triton.toJson(origin).getBytes(StandardCharsets.UTF_8);
+        final Sample result = Triton.toRecord(Sample.class, stage);
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void jsonRoundTrip_inputStream() throws IOException {
+        final Sample origin = anySample();
+        final ByteArrayOutputStream stage = new ByteArrayOutputStream();
+        Triton.writeJson(origin, stage);
+        final Sample result = Triton.toRecord(Sample.class, new ByteArrayInputStream(stage.toByteArray()));
+        assertEquals(origin, result);
+    }
+
     @ParameterizedTest
     @MethodSource("options")
     final void jsonRoundTrip_withOptions(final List<RenderOption> options) {
@@ -83,6 +138,147 @@ class TritonTest extends TritonTestBase {
         assertEquals(origin, result);
     }
 
+    @ParameterizedTest
+    @MethodSource("options")
+    final void writeJson_appendable(final List<RenderOption> options) throws IOException {
+        final Sample origin = anySample();
+        final RenderOption[] optionArray = options.toArray(RenderOption[]::new);
+        final StringWriter target = new StringWriter();
+
+        Triton.writeJson(origin, target, optionArray);
+
+        assertEquals(Triton.toJson(origin, optionArray), target.toString());
+    }
+
+    @Test
+    final void writeJson_outputStream() throws IOException {
+        final Sample origin = anySample();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        Triton.writeJson(origin, target);
+
+        assertEquals(Triton.toJson(origin), target.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    final void writeJson_fail() {
+        final Writer target = new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("failing on purpose");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertThrows(IOException.class, () -> Triton.writeJson(anySample(), target));
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonLinesRoundTrip(final List<RenderOption> options) throws IOException {
+        final List<Sample> origin = Stream.generate(TritonTest::anySample).limit(100).toList();
+        final StringWriter stage = new StringWriter();
+
+        Triton.writeJsonLines(origin, stage, options.toArray(RenderOption[]::new));
+
+        final List<String> lines = stage.toString().lines().toList();
+        assertEquals(origin.size(), lines.size());
+        try (final Stream<Sample> result = Triton.toRecords(Sample.class, new StringReader(stage.toString()))) {
+            assertEquals(origin, result.toList());
+        }
+    }
+
+    @Test
+    final void writeJsonLines_canonical() throws IOException {
+        final List<Sample> origin = Stream.generate(TritonTest::anySample).limit(10).toList();
+        final StringWriter stage = new StringWriter();
+
+        Triton.writeJsonLines(origin, stage, CANONICAL, INDENT_TAB);
+
+        assertEquals(origin.stream().map(sample -> Triton.toJson(sample, CANONICAL)).toList(),
+                     stage.toString().lines().toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonAllRoundTrip(final List<RenderOption> options) {
+        final RenderOption[] optionArray = options.toArray(RenderOption[]::new);
+        final List<Sample> origin = Stream.generate(TritonTest::anySample).limit(1000).toList();
+        final List<String> expected = origin.stream()
+                                            .map(sample -> Triton.toJson(sample, optionArray))
+                                            .toList();
+
+        final List<String> stage = Triton.toJsonAll(origin, optionArray);
+        assertEquals(expected, stage);
+
+        final List<Sample> result = Triton.toRecordAll(Sample.class, stage);
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void toRecordAll_fail() {
+        final List<String> stage = List.of(Triton.toJson(anySample()), "{ invalid }");
+        assertThrows(IllegalArgumentException.class, () -> Triton.toRecordAll(Sample.class, stage));
+    }
+
+    @Test
+    final void jsonAllRoundTrip_stream() {
+        final List<Sample> origin = Stream.generate(TritonTest::anySample).limit(1000).toList();
+        final List<String> expected = origin.stream()
+                                            .map(sample -> Triton.toJson(sample, CANONICAL))
+                                            .toList();
+
+        final List<String> stage = Triton.toJsonAll(origin.stream(), CANONICAL).toList();
+        assertEquals(expected, stage);
+
+        final List<Sample> result = Triton.toRecordAll(Sample.class, stage.stream()).toList();
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void jsonAllRoundTrip_parallelStream() {
+        final List<Sample> origin = Stream.generate(TritonTest::anySample).limit(1000).toList();
+        final List<String> expected = origin.stream()
+                                            .map(sample -> Triton.toJson(sample, CANONICAL))
+                                            .toList();
+
+        final List<String> stage = Triton.toJsonAll(origin.parallelStream(), CANONICAL).toList();
+        assertEquals(expected, stage);
+
+        final List<Sample> result = Triton.toRecordAll(Sample.class, stage.parallelStream()).toList();
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void toRecordAll_stream_lazy() {
+        final Stream<String> stage = Stream.of(Triton.toJson(anySample()), "{ invalid }");
+
+        final Stream<Sample> result = Triton.toRecordAll(Sample.class, stage);
+
+        assertEquals(1L, result.limit(1).count());
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.toRecordAll(Sample.class, Stream.of("{ invalid }")).toList());
+    }
+
+    @Test
+    final void toRecords_lazy() {
+        final String stage = Triton.toJson(anySample(), INLINE_OBJECT) + "\n{ invalid }\n";
+        try (final Stream<Sample> result = Triton.toRecords(Sample.class, new StringReader(stage))) {
+            assertEquals(1L, result.limit(1).count());
+        }
+    }
+
+    @Test
+    final void toRecords_empty() {
+        assertEquals(List.of(), Triton.toRecords(Sample.class, new StringReader(" \n\n ")).toList());
+    }
+
     @Test
     final void mapRoundTrip() {
         final Sample origin = anySample();
@@ -91,6 +287,159 @@ class TritonTest extends TritonTestBase {
         assertEquals(origin, result);
     }
 
+    @Test
+    final void jsonRoundTrip_epochMillis() {
+        final Sample origin = new Sample("name", Instant.ofEpochSecond(1_700_000_000L, 123_456_789),
+                                         UUID.randomUUID(), Sample.class);
+        final Sample expected = new Sample(origin.name(), Instant.ofEpochMilli(1_700_000_000_123L),
+                                           origin.uuid(), origin.refClass());
+
+        final String stage = Triton.toJson(origin, INLINE_OBJECT, INSTANT_AS_EPOCH_MILLIS);
+        final Sample result = Triton.toRecord(Sample.class, stage);
+
+        assertTrue(stage.contains("\"create\" : 1700000000123"), stage);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    final void jsonRoundTrip_standardTypes() {
+        final StandardTypes origin = new StandardTypes(LocalDate.of(2024, 2, 29),
+                                                       LocalTime.of(12, 34, 56),
+                                                       LocalDateTime.of(2024, 2, 29, 12, 34),
+                                                       OffsetDateTime.parse("2024-02-29T12:34:56+01:00"),
+                                                       ZonedDateTime.parse("2024-02-29T12:34:56+01:00[Europe/Berlin]"),
+                                                       Duration.ofMillis(278_000),
+                                                       Period.of(1, 2, 3),
+                                                       ZoneId.of("Europe/Berlin"),
+                                                       URI.create("https://example.org/path?query"),
+                                                       Path.of("some", "path"));
+
+        final String stage = Triton.toJson(origin);
+        final StandardTypes result = Triton.toRecord(StandardTypes.class, stage);
+
+        assertEquals(origin, result);
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonRoundTrip_collections(final List<RenderOption> options) {
+        final Containers origin = new Containers(List.of("a", "b", "c"),
+                                                 Set.of(1L, 2L, 3L),
+                                                 Map.of("first", new Entry("x", List.of(1, 2)),
+                                                        "second", new Entry("y", List.of())),
+                                                 List.of(List.of(1, 2), List.of(), List.of(3)),
+                                                 Optional.of(Instant.parse("2024-01-02T03:04:05Z")),
+                                                 Optional.empty());
+
+        final String stage = Triton.toJson(origin, options.toArray(RenderOption[]::new));
+        final Containers result = Triton.toRecord(Containers.class, stage);
+
+        assertEquals(origin, result);
+        assertThrows(UnsupportedOperationException.class, () -> result.names().add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> result.ids().add(4L));
+        assertThrows(UnsupportedOperationException.class, () -> result.entries().clear());
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    final void jsonRoundTrip_series(final List<RenderOption> options) {
+        final BinaryTest.Series origin = BinaryTest.Series.random(10_000);
+
+        final String stage = Triton.toJson(origin, options.toArray(RenderOption[]::new));
+        final BinaryTest.Series result = Triton.toRecord(BinaryTest.Series.class, stage);
+
+        assertEquals(origin.toString(), result.toString());
+        assertEquals(stage, Triton.toJson(result, options.toArray(RenderOption[]::new)));
+    }
+
+    @Test
+    final void toRecord_collections_null() {
+        final Containers result = Triton.toRecord(Containers.class, "{\"since\":null}");
+
+        assertEquals(new Containers(null, null, null, null, Optional.empty(), Optional.empty()), result);
+    }
+
+    @Test
+    final void toRecord_collections_order() {
+        final String json = "{\"ids\":[5,3,5,1],\"entries\":{\"z\":null,\"a\":{\"key\":\"k\"}}}";
+
+        final Containers result = Triton.toRecord(Containers.class, json);
+
+        assertEquals(List.of(5L, 3L, 1L), List.copyOf(result.ids()));
+        assertEquals(List.of("z", "a"), List.copyOf(result.entries().keySet()));
+        assertEquals(null, result.entries().get("z"));
+    }
+
+    @Test
+    final void toRecord_nonStringKeys() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> Triton.toRecord(NonStringKeys.class, "{\"map\":{\"1\":\"one\"}}"));
+    }
+
+    /**
+     * The elements are collected on a stack with an initial capacity of 64 that is doubled as needed, so the sizes
+     * probe the exact capacity and each growth step.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {63, 64, 65, 127, 128, 129, 256, 512, 1024, 2048, 4096, 4097})
+    final void toRecord_collections_large(final int size) {
+        final List<String> names = Stream.iterate(0, i -> i + 1).limit(size).map(i -> "n" + i).toList();
+        final List<List<Integer>> matrix = List.of(Stream.iterate(0, i -> i + 1).limit(size).toList());
+        final Containers origin = new Containers(names, null, null, matrix, Optional.empty(), Optional.empty());
+
+        final Containers result = Triton.toRecord(Containers.class, Triton.toJson(origin));
+
+        assertEquals(origin, result);
+    }
+
+    @Test
+    final void toJson_canonical() {
+        final Containers origin = new Containers(List.of("b", "a"), Set.of(), Map.of("z", new Entry("z", List.of()),
+                                                                                "a", new Entry("a", null)),
+                                                 null, Optional.of(Instant.EPOCH), Optional.empty());
+        final String expected = "{\"names\":[\"b\",\"a\"],\"ids\":[]," +
+                                "\"entries\":{\"a\":{\"key\":\"a\"},\"z\":{\"key\":\"z\",\"values\":[]}}," +
+                                "\"since\":\"1970-01-01T00:00:00Z\"}";
+
+        final String result = Triton.toJson(origin, CANONICAL, SKIP_NULL, INDENT_TAB);
+
+        assertEquals(expected, result);
+        assertEquals(origin, Triton.toRecord(Containers.class, result));
+    }
+
+    @Test
+    final void cacheFragments() throws IOException {
+        final List<Referring> sources = Stream.of("a", "b", "a", "c", "b", "d")
+                                              .map(code -> new Referring(code.toUpperCase(), new Reference(code, 1)))
+                                              .toList();
+        final List<String> expected = renderings(sources);
+
+        Triton.cacheFragments(Reference.class, 2);
+        try {
+            // rendered twice, so the second round can use the fragments cached by the first ...
+            assertEquals(expected, renderings(sources));
+            assertEquals(expected, renderings(sources));
+        } finally {
+            Triton.cacheFragments(Reference.class, 0);
+        }
+        assertEquals(expected, renderings(sources));
+    }
+
+    private static List<String> renderings(final List<Referring> sources) throws IOException {
+        final StringWriter lines = new StringWriter();
+        Triton.writeJsonLines(sources, lines);
+        return Stream.concat(Stream.of(lines.toString()),
+                             sources.stream().flatMap(source -> Stream.of(Triton.toJson(source, INLINE_OBJECT),
+                                                                          Triton.toJson(source, CANONICAL),
+                                                                          Triton.toJson(source))))
+                     .toList();
+    }
+
+    @Test
+    final void cacheFragments_negative() {
+        assertThrows(IllegalArgumentException.class, () -> Triton.cacheFragments(Reference.class, -1));
+    }
+
     @SuppressWarnings({"EmptyClass", "WeakerAccess"})
     static class FailingA {
     }
@@ -103,6 +452,27 @@ class TritonTest extends TritonTestBase {
     static class FailingC {
     }
 
+    private record StandardTypes(LocalDate localDate, LocalTime localTime, LocalDateTime localDateTime,
+                                 OffsetDateTime offsetDateTime, ZonedDateTime zonedDateTime, Duration duration,
+                                 Period period, ZoneId zoneId, URI uri, Path path) {
+    }
+
     private record Sample(String name, Instant create, UUID uuid, Class<?> refClass) {
     }
+
+    private record Containers(List<String> names, Set<Long> ids, Map<String, Entry> entries,
+                              Collection<List<Integer>> matrix, Optional<Instant> since, Optional<String> note) {
+    }
+
+    private record Reference(String code, int rank) {
+    }
+
+    private record Referring(String name, Reference reference) {
+    }
+
+    private record Entry(String key, List<Integer> values) {
+    }
+
+    private record NonStringKeys(Map<Integer, String> map) {
+    }
 }
\ No newline at end of file